@@ -0,0 +1,32 @@
+package com.allancordeiro.admin.catalogue.application.category.bulk;
+
+import java.util.List;
+
+public record BulkCategoriesCommand(List<Operation> operations) {
+    public static final String CREATE = "create";
+    public static final String UPDATE = "update";
+    public static final String DELETE = "delete";
+
+    public static BulkCategoriesCommand with(final List<Operation> operations) {
+        return new BulkCategoriesCommand(operations);
+    }
+
+    public record Operation(String op, String id, String name, String description, boolean isActive) {
+        public static Operation create(final String name, final String description, final boolean isActive) {
+            return new Operation(CREATE, null, name, description, isActive);
+        }
+
+        public static Operation update(
+                final String id,
+                final String name,
+                final String description,
+                final boolean isActive
+        ) {
+            return new Operation(UPDATE, id, name, description, isActive);
+        }
+
+        public static Operation delete(final String id) {
+            return new Operation(DELETE, id, null, null, false);
+        }
+    }
+}
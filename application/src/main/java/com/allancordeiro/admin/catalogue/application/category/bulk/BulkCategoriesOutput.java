@@ -0,0 +1,35 @@
+package com.allancordeiro.admin.catalogue.application.category.bulk;
+
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+
+import java.util.List;
+
+public record BulkCategoriesOutput(List<Item> items) {
+
+    public enum Status {
+        OK,
+        INVALID,
+        NOT_FOUND,
+        CONFLICT,
+        FAILED
+    }
+
+    public record Item(int index, String op, String id, Status status, List<Error> errors) {
+        public static Item succeeded(final int index, final String op, final String id) {
+            return new Item(index, op, id, Status.OK, List.of());
+        }
+
+        public static Item failed(final int index, final String op, final String id, final Status status, final Error error) {
+            return new Item(index, op, id, status, List.of(error));
+        }
+
+        public static Item failed(final int index, final String op, final String id, final Status status, final Notification notification) {
+            return new Item(index, op, id, status, List.copyOf(notification.getErrors()));
+        }
+
+        public boolean hasError() {
+            return status != Status.OK;
+        }
+    }
+}
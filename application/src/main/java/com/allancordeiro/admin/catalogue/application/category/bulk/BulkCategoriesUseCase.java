@@ -0,0 +1,6 @@
+package com.allancordeiro.admin.catalogue.application.category.bulk;
+
+import com.allancordeiro.admin.catalogue.application.UseCase;
+
+public abstract class BulkCategoriesUseCase extends UseCase<BulkCategoriesCommand, BulkCategoriesOutput> {
+}
@@ -0,0 +1,233 @@
+package com.allancordeiro.admin.catalogue.application.category.bulk;
+
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesCommand.Operation;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesOutput.Item;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesOutput.Status;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+import io.vavr.API;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesCommand.CREATE;
+import static com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesCommand.DELETE;
+import static com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesCommand.UPDATE;
+
+// every operation is validated on its own (in parallel), then the valid ones are written with one
+// createAll, one updateAll and one deleteAllByIds. since the groups do not run in request order, an id
+// may appear in only one operation per command. when a group write fails, its rows are retried one by
+// one so a single bad row does not fail the others
+public class DefaultBulkCategoriesUseCase extends BulkCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBulkCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public BulkCategoriesOutput execute(final BulkCategoriesCommand command) {
+        final var operations = command.operations();
+        final var items = new Item[operations.size()];
+        final var categories = new Category[operations.size()];
+
+        final var ids = new HashSet<String>();
+        for (int i = 0; i < operations.size(); i++) {
+            final var id = operations.get(i).id();
+            if (id != null && !ids.add(id)) {
+                items[i] = Item.failed(i, operations.get(i).op(), id, Status.INVALID, new Error(
+                        "'id' %s is used by more than one operation".formatted(id)
+                ));
+            }
+        }
+
+        final var current = current(operations, items);
+
+        // each operation writes only its own slot of the arrays
+        IntStream.range(0, operations.size()).parallel()
+                .filter(i -> items[i] == null)
+                .forEach(i -> prepare(i, operations.get(i), current, items, categories));
+
+        final var creates = new ArrayList<Integer>();
+        final var updates = new ArrayList<Integer>();
+        final var deletes = new ArrayList<Integer>();
+        for (int i = 0; i < operations.size(); i++) {
+            if (items[i] == null) {
+                switch (operations.get(i).op()) {
+                    case CREATE -> creates.add(i);
+                    case UPDATE -> updates.add(i);
+                    default -> deletes.add(i);
+                }
+            }
+        }
+
+        createAll(creates, operations, categories, items);
+        updateAll(updates, operations, categories, items);
+        deleteAll(deletes, operations, items);
+
+        return new BulkCategoriesOutput(Arrays.asList(items));
+    }
+
+    // the rows to update are read with a single query
+    private Map<CategoryId, Category> current(final List<Operation> operations, final Item[] items) {
+        final var ids = IntStream.range(0, operations.size())
+                .filter(i -> items[i] == null && UPDATE.equals(operations.get(i).op()) && operations.get(i).id() != null)
+                .mapToObj(i -> CategoryId.from(operations.get(i).id()))
+                .toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return this.categoryGateway.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+    }
+
+    private void prepare(
+            final int index,
+            final Operation operation,
+            final Map<CategoryId, Category> current,
+            final Item[] items,
+            final Category[] categories
+    ) {
+        final var op = operation.op();
+        final var notification = Notification.create();
+
+        if (op == null) {
+            items[index] = Item.failed(index, null, operation.id(), Status.INVALID, new Error("'op' should not be null"));
+            return;
+        }
+        if ((UPDATE.equals(op) || DELETE.equals(op)) && operation.id() == null) {
+            items[index] = Item.failed(index, op, null, Status.INVALID, new Error("'id' should not be null"));
+            return;
+        }
+
+        switch (op) {
+            case CREATE -> {
+                final var category = Category.newCategory(operation.name(), operation.description(), operation.isActive());
+                category.validate(notification);
+                if (notification.hasError()) {
+                    items[index] = Item.failed(index, op, null, Status.INVALID, notification);
+                } else {
+                    categories[index] = category;
+                }
+            }
+            case UPDATE -> {
+                final var id = CategoryId.from(operation.id());
+                final var category = current.get(id);
+                if (category == null) {
+                    items[index] = Item.failed(index, op, operation.id(), Status.NOT_FOUND, new Error(
+                            NotFoundException.with(Category.class, id).getMessage()
+                    ));
+                    return;
+                }
+                category
+                        .update(operation.name(), operation.description(), operation.isActive())
+                        .validate(notification);
+                if (notification.hasError()) {
+                    items[index] = Item.failed(index, op, operation.id(), Status.INVALID, notification);
+                } else if (!category.hasChanges()) {
+                    items[index] = Item.succeeded(index, op, operation.id());
+                } else {
+                    categories[index] = category;
+                }
+            }
+            case DELETE -> {
+            }
+            default -> items[index] = Item.failed(index, op, operation.id(), Status.INVALID, new Error(
+                    "'op' %s is not supported".formatted(op)
+            ));
+        }
+    }
+
+    private void createAll(
+            final List<Integer> indexes,
+            final List<Operation> operations,
+            final Category[] categories,
+            final Item[] items
+    ) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        API.Try(() -> this.categoryGateway.createAll(indexes.stream().map(i -> categories[i]).toList()))
+                .onSuccess(created -> indexes.forEach(i ->
+                        items[i] = Item.succeeded(i, CREATE, categories[i].getId().getValue())))
+                .onFailure(ex -> oneByOne(indexes, operations, items, i -> {
+                    this.categoryGateway.create(categories[i]);
+                    return Item.succeeded(i, CREATE, categories[i].getId().getValue());
+                }));
+    }
+
+    // a row missing from the result changed between our read and the write
+    private void updateAll(
+            final List<Integer> indexes,
+            final List<Operation> operations,
+            final Category[] categories,
+            final Item[] items
+    ) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        API.Try(() -> this.categoryGateway.updateAll(indexes.stream().map(i -> categories[i]).toList()))
+                .onSuccess(updated -> {
+                    final var written = updated.stream().map(Category::getId).collect(Collectors.toSet());
+                    indexes.forEach(i -> {
+                        final var id = categories[i].getId();
+                        items[i] = written.contains(id)
+                                ? Item.succeeded(i, UPDATE, id.getValue())
+                                : Item.failed(i, UPDATE, id.getValue(), Status.CONFLICT, new Error(
+                                        StaleVersionException.with(Category.class, id).getMessage()
+                                ));
+                    });
+                })
+                .onFailure(ex -> oneByOne(indexes, operations, items, i -> {
+                    this.categoryGateway.update(categories[i]);
+                    return Item.succeeded(i, UPDATE, categories[i].getId().getValue());
+                }));
+    }
+
+    private void deleteAll(final List<Integer> indexes, final List<Operation> operations, final Item[] items) {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        API.Try(() -> {
+                    this.categoryGateway.deleteAllByIds(indexes.stream()
+                            .map(i -> CategoryId.from(operations.get(i).id()))
+                            .toList());
+                    return indexes;
+                })
+                .onSuccess(deleted -> deleted.forEach(i -> items[i] = Item.succeeded(i, DELETE, operations.get(i).id())))
+                .onFailure(ex -> oneByOne(indexes, operations, items, i -> {
+                    this.categoryGateway.deleteById(CategoryId.from(operations.get(i).id()));
+                    return Item.succeeded(i, DELETE, operations.get(i).id());
+                }));
+    }
+
+    // the group write failed as a whole, so each row is written on its own and reports its own outcome
+    private static void oneByOne(
+            final List<Integer> indexes,
+            final List<Operation> operations,
+            final Item[] items,
+            final IntFunction<Item> write
+    ) {
+        indexes.forEach(i -> items[i] = API.Try(() -> write.apply(i))
+                .getOrElseGet(ex -> fail(i, operations.get(i), ex)));
+    }
+
+    private static Item fail(final int index, final Operation operation, final Throwable ex) {
+        final var status = ex instanceof StaleVersionException ? Status.CONFLICT : Status.FAILED;
+        return Item.failed(index, operation.op(), operation.id(), status, Notification.create(ex));
+    }
+}
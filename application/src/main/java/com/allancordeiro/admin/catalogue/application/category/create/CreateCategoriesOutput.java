@@ -0,0 +1,24 @@
+package com.allancordeiro.admin.catalogue.application.category.create;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+
+import java.util.List;
+
+public record CreateCategoriesOutput(List<Item> items) {
+
+    public record Item(int index, String id, List<Error> errors) {
+        public static Item created(final int index, final Category category) {
+            return new Item(index, category.getId().getValue(), List.of());
+        }
+
+        public static Item failed(final int index, final Notification notification) {
+            return new Item(index, null, List.copyOf(notification.getErrors()));
+        }
+
+        public boolean hasError() {
+            return !errors.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.allancordeiro.admin.catalogue.application.category.create;
+
+import com.allancordeiro.admin.catalogue.application.UseCase;
+import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class CreateCategoriesUseCase
+        extends UseCase<CreateCategoriesCommand, Either<Notification, CreateCategoriesOutput>> {
+}
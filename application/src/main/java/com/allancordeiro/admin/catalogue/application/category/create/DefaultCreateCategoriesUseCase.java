@@ -0,0 +1,73 @@
+package com.allancordeiro.admin.catalogue.application.category.create;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, CreateCategoriesOutput> execute(final CreateCategoriesCommand command) {
+        final var commands = command.items();
+        final var items = new CreateCategoriesOutput.Item[commands.size()];
+        final var categories = new ArrayList<Category>(commands.size());
+        final var positions = new ArrayList<Integer>(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var item = commands.get(i);
+            final var notification = Notification.create();
+            final var category = Category.newCategory(item.name(), item.description(), item.isActive());
+            category.validate(notification);
+
+            if (notification.hasError()) {
+                items[i] = CreateCategoriesOutput.Item.failed(i, notification);
+            } else {
+                categories.add(category);
+                positions.add(i);
+            }
+        }
+
+        createAll(categories, positions, items);
+        return API.Right(new CreateCategoriesOutput(Arrays.asList(items)));
+    }
+
+    // the batch insert failed as a whole, so each row is inserted on its own and reports its own outcome
+    private void createAll(
+            final List<Category> categories,
+            final List<Integer> positions,
+            final CreateCategoriesOutput.Item[] items
+    ) {
+        if (categories.isEmpty()) {
+            return;
+        }
+        API.Try(() -> this.categoryGateway.createAll(categories))
+                .onSuccess(created -> {
+                    for (int i = 0; i < created.size(); i++) {
+                        final int index = positions.get(i);
+                        items[index] = CreateCategoriesOutput.Item.created(index, created.get(i));
+                    }
+                })
+                .onFailure(ex -> {
+                    for (int i = 0; i < categories.size(); i++) {
+                        final int index = positions.get(i);
+                        final var category = categories.get(i);
+                        items[index] = API.Try(() -> this.categoryGateway.create(category))
+                                .map(created -> CreateCategoriesOutput.Item.created(index, created))
+                                .getOrElseGet(failure -> CreateCategoriesOutput.Item.failed(index, Notification.create(failure)));
+                    }
+                });
+    }
+}
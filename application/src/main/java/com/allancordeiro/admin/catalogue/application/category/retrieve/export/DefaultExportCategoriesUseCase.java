@@ -0,0 +1,26 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.export;
+
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.CategoryOutput;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Long execute(final ExportCategoriesCommand command) {
+        final var exported = new AtomicLong();
+        this.categoryGateway.forEach(command.updatedSince(), category -> {
+            command.consumer().accept(CategoryOutput.from(category));
+            exported.incrementAndGet();
+        });
+        return exported.get();
+    }
+}
@@ -0,0 +1,13 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.export;
+
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.CategoryOutput;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+// updatedSince is optional; every category is handed to the consumer as it is read
+public record ExportCategoriesCommand(Instant updatedSince, Consumer<CategoryOutput> consumer) {
+    public static ExportCategoriesCommand with(final Instant updatedSince, final Consumer<CategoryOutput> consumer) {
+        return new ExportCategoriesCommand(updatedSince, consumer);
+    }
+}
@@ -0,0 +1,6 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.export;
+
+import com.allancordeiro.admin.catalogue.application.UseCase;
+
+public abstract class ExportCategoriesUseCase extends UseCase<ExportCategoriesCommand, Long> {
+}
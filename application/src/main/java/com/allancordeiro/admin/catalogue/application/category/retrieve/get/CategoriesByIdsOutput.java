@@ -0,0 +1,6 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.get;
+
+import java.util.List;
+
+public record CategoriesByIdsOutput(List<CategoryOutput> items, List<String> missing) {
+}
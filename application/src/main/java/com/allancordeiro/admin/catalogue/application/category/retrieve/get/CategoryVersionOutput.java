@@ -0,0 +1,8 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.get;
+
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+
+import java.time.Instant;
+
+public record CategoryVersionOutput(CategoryId id, long version, Instant updatedAt) {
+}
@@ -0,0 +1,51 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.get;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+    public static final int MAX_IDS = 100;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoriesByIdsOutput execute(final List<String> ids) {
+        final var requested = ids.stream()
+                .map(CategoryId::from)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        if (requested.size() > MAX_IDS) {
+            throw DomainException.with(new Error("'ids' must have at most %d entries".formatted(MAX_IDS)));
+        }
+        if (requested.isEmpty()) {
+            return new CategoriesByIdsOutput(List.of(), List.of());
+        }
+
+        final var found = this.categoryGateway.findAllByIds(requested).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        return new CategoriesByIdsOutput(
+                requested.stream()
+                        .filter(found::containsKey)
+                        .map(id -> CategoryOutput.from(found.get(id)))
+                        .toList(),
+                requested.stream()
+                        .filter(id -> !found.containsKey(id))
+                        .map(CategoryId::getValue)
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.get;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+
+// only the version and updatedAt of the category, enough to answer a conditional request without loading the row
+public class DefaultGetCategoryVersionUseCase extends GetCategoryVersionUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryVersionUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoryVersionOutput execute(final String id) {
+        final var categoryId = CategoryId.from(id);
+        return this.categoryGateway.findVersionById(categoryId)
+                .map(version -> new CategoryVersionOutput(categoryId, version.version(), version.updatedAt()))
+                .orElseThrow(() -> NotFoundException.with(Category.class, categoryId));
+    }
+}
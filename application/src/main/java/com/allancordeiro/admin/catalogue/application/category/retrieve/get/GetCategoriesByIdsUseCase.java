@@ -0,0 +1,8 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.get;
+
+import com.allancordeiro.admin.catalogue.application.UseCase;
+
+import java.util.List;
+
+public abstract class GetCategoriesByIdsUseCase extends UseCase<List<String>, CategoriesByIdsOutput> {
+}
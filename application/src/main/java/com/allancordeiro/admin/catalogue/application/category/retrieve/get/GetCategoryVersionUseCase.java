@@ -0,0 +1,6 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.get;
+
+import com.allancordeiro.admin.catalogue.application.UseCase;
+
+public abstract class GetCategoryVersionUseCase extends UseCase<String, CategoryVersionOutput> {
+}
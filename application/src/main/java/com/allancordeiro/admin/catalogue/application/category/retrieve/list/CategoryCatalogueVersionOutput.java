@@ -0,0 +1,6 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.list;
+
+import java.time.Instant;
+
+public record CategoryCatalogueVersionOutput(long count, long versions, Instant updatedAt) {
+}
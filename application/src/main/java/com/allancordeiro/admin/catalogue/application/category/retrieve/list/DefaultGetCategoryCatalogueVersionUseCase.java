@@ -0,0 +1,21 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.list;
+
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+
+import java.util.Objects;
+
+// a version of the whole catalogue read from the database, enough to answer a conditional list
+// request without running its query
+public class DefaultGetCategoryCatalogueVersionUseCase extends GetCategoryCatalogueVersionUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoryCatalogueVersionUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoryCatalogueVersionOutput execute() {
+        final var version = this.categoryGateway.findCatalogueVersion();
+        return new CategoryCatalogueVersionOutput(version.count(), version.versions(), version.updatedAt());
+    }
+}
@@ -0,0 +1,21 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.list;
+
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
+
+import java.util.Objects;
+
+public class DefaultListCategoriesByCursorUseCase extends ListCategoriesByCursorUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListCategoriesByCursorUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CursorPagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+        return this.categoryGateway.findAllByCursor(query)
+                .map(CategoryListOutput::from);
+    }
+}
@@ -2,11 +2,16 @@ package com.allancordeiro.admin.catalogue.application.category.retrieve.list;
 
 import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
 import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
 import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
 
 import java.util.Objects;
+import java.util.Set;
 
 public class DefaultListCategoriesUseCase extends ListCategoriesUseCase{
+    private static final Set<String> SORTABLE = Set.of("name", "createdAt", "updatedAt", "active", "relevance");
+
     private final CategoryGateway categoryGateway;
 
     public DefaultListCategoriesUseCase(final CategoryGateway categoryGateway) {
@@ -15,6 +20,10 @@ public class DefaultListCategoriesUseCase extends ListCategoriesUseCase{
 
     @Override
     public Pagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+        if (!SORTABLE.contains(query.sort())) {
+            throw DomainException.with(new Error("'sort' %s is not supported".formatted(query.sort())));
+        }
+
         return this.categoryGateway.findAll(query)
                 .map(CategoryListOutput::from);
     }
@@ -0,0 +1,6 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.list;
+
+import com.allancordeiro.admin.catalogue.application.NullaryUseCase;
+
+public abstract class GetCategoryCatalogueVersionUseCase extends NullaryUseCase<CategoryCatalogueVersionOutput> {
+}
@@ -0,0 +1,9 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.list;
+
+import com.allancordeiro.admin.catalogue.application.UseCase;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
+
+public abstract class ListCategoriesByCursorUseCase
+        extends UseCase<CategorySearchQuery, CursorPagination<CategoryListOutput>> {
+}
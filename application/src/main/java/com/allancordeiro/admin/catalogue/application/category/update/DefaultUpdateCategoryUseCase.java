@@ -5,6 +5,7 @@ import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
 import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
 import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
 import com.allancordeiro.admin.catalogue.domain.validation.Error;
 import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
 import io.vavr.API;
@@ -14,6 +15,8 @@ import java.util.Objects;
 import java.util.function.Supplier;
 
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase{
+    static final int MAX_ATTEMPTS = 3;
+
     private final CategoryGateway categoryGateway;
 
     public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway) {
@@ -23,6 +26,20 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase{
     @Override
     public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand command) {
         final var id = CategoryId.from(command.id());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return execute(id, command);
+            } catch (final StaleVersionException ex) {
+                // an unconditional update that lost a race is reapplied on the fresh row;
+                // a conditional one was made against a version that no longer exists
+                if (command.expectedVersion() != null || attempt == MAX_ATTEMPTS) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private Either<Notification, UpdateCategoryOutput> execute(final CategoryId id, final UpdateCategoryCommand command) {
         final var name = command.name();
         final var description = command.description();
         final var isActive = command.isActive();
@@ -30,6 +47,10 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase{
         final var category = this.categoryGateway.findById(id)
                 .orElseThrow(notFound(id));
 
+        if (command.expectedVersion() != null && command.expectedVersion() != category.getVersion()) {
+            throw StaleVersionException.with(Category.class, id);
+        }
+
         final var  notification = Notification.create();
         category
                 .update(name, description, isActive)
@@ -39,9 +60,17 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase{
     }
 
     private Either<Notification, UpdateCategoryOutput> update(final Category category) {
-        return API.Try(() -> this.categoryGateway.update(category))
-                .toEither()
-                .bimap(Notification::create, UpdateCategoryOutput::from);
+        if (!category.hasChanges()) {
+            return API.Right(UpdateCategoryOutput.from(category));
+        }
+        // a stale version is not a notification: execute() retries it or the caller answers 412
+        try {
+            return API.Right(UpdateCategoryOutput.from(this.categoryGateway.update(category)));
+        } catch (final StaleVersionException ex) {
+            throw ex;
+        } catch (final RuntimeException ex) {
+            return API.Left(Notification.create(ex));
+        }
     }
 
     private static Supplier<DomainException> notFound(final CategoryId id) {
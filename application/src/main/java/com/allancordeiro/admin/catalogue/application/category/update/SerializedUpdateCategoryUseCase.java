@@ -0,0 +1,35 @@
+package com.allancordeiro.admin.catalogue.application.category.update;
+
+import com.allancordeiro.admin.catalogue.application.utils.StripedLock;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+
+// runs updates of the same category one at a time within this process, so they queue here instead
+// of racing on the version check in MySQL. other instances are still guarded by the version alone
+public class SerializedUpdateCategoryUseCase extends UpdateCategoryUseCase {
+    private final UpdateCategoryUseCase delegate;
+    private final StripedLock locks;
+
+    public SerializedUpdateCategoryUseCase(final UpdateCategoryUseCase delegate, final StripedLock locks) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.locks = Objects.requireNonNull(locks);
+    }
+
+    @Override
+    public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand command) {
+        final var id = CategoryId.from(command.id());
+        this.locks.lock(id);
+        try {
+            return this.delegate.execute(command);
+        } finally {
+            this.locks.unlock(id);
+        }
+    }
+
+    public long contended() {
+        return this.locks.contended();
+    }
+}
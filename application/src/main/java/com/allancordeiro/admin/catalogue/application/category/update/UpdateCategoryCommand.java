@@ -1,12 +1,29 @@
 package com.allancordeiro.admin.catalogue.application.category.update;
 
-public record UpdateCategoryCommand(String id, String name, String description, boolean isActive) {
+// expectedVersion is null for an unconditional update
+public record UpdateCategoryCommand(
+        String id,
+        String name,
+        String description,
+        boolean isActive,
+        Long expectedVersion
+) {
     public static UpdateCategoryCommand with(
             final String id,
             final String name,
             final String description,
             final boolean isActive
     ) {
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return new UpdateCategoryCommand(id, name, description, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+            final String id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Long expectedVersion
+    ) {
+        return new UpdateCategoryCommand(id, name, description, isActive, expectedVersion);
     }
 }
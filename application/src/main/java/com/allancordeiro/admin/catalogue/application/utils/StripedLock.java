@@ -0,0 +1,53 @@
+package com.allancordeiro.admin.catalogue.application.utils;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// a fixed array of locks picked by the key's hash: equal keys always share a lock, different keys
+// only collide when they land on the same stripe, so memory stays constant however many keys exist
+public final class StripedLock {
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final LongAdder contended = new LongAdder();
+
+    public StripedLock(final int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be positive");
+        }
+        final var size = Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ReentrantLock[Math.max(1, size)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = this.stripes.length - 1;
+    }
+
+    public ReentrantLock get(final Object key) {
+        return this.stripes[spread(key.hashCode()) & this.mask];
+    }
+
+    public void lock(final Object key) {
+        final var lock = get(key);
+        if (!lock.tryLock()) {
+            this.contended.increment();
+            lock.lock();
+        }
+    }
+
+    public void unlock(final Object key) {
+        get(key).unlock();
+    }
+
+    public int stripes() {
+        return this.stripes.length;
+    }
+
+    // acquisitions that had to wait for another holder of the same stripe
+    public long contended() {
+        return this.contended.sum();
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
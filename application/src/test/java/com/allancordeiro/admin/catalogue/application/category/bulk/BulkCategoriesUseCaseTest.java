@@ -0,0 +1,217 @@
+package com.allancordeiro.admin.catalogue.application.category.bulk;
+
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesCommand.Operation;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesOutput.Status;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultBulkCategoriesUseCase useCase;
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenMixedOperations_whenCallsBulk_thenShouldWriteOneBatchPerOperationType() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var deletedId = CategoryId.unique().getValue();
+        final var command = BulkCategoriesCommand.with(List.of(
+                Operation.create("Documentarios", null, true),
+                Operation.update(filmes.getId().getValue(), "Filmes", "A categoria mais assistida", true),
+                Operation.delete(deletedId),
+                Operation.create("Animes", null, false),
+                Operation.update(series.getId().getValue(), "Series", null, false)
+        ));
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any()))
+                .thenReturn(List.of(Category.with(filmes), Category.with(series)));
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenAnswer(returnsFirstArg());
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(command);
+
+        Assertions.assertEquals(5, actualOutput.items().size());
+        actualOutput.items().forEach(item -> Assertions.assertEquals(Status.OK, item.status()));
+        Assertions.assertEquals(filmes.getId().getValue(), actualOutput.items().get(1).id());
+        Assertions.assertEquals(deletedId, actualOutput.items().get(2).id());
+        Assertions.assertNotNull(actualOutput.items().get(3).id());
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Category>> created = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(categoryGateway, Mockito.times(1)).createAll(created.capture());
+        Assertions.assertEquals(List.of("Documentarios", "Animes"), created.getValue().stream().map(Category::getName).toList());
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Category>> updated = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateAll(updated.capture());
+        Assertions.assertEquals(2, updated.getValue().size());
+        Assertions.assertEquals("A categoria mais assistida", updated.getValue().get(0).getDescription());
+        Assertions.assertFalse(updated.getValue().get(1).isActive());
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<CategoryId>> deleted = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(categoryGateway, Mockito.times(1)).deleteAllByIds(deleted.capture());
+        Assertions.assertEquals(List.of(CategoryId.from(deletedId)), List.copyOf(deleted.getValue()));
+    }
+
+    @Test
+    public void givenInvalidOperations_whenCallsBulk_thenShouldReportThemPerItemAndWriteTheRest() {
+        final var missingId = CategoryId.unique().getValue();
+        final var command = BulkCategoriesCommand.with(List.of(
+                Operation.create(null, null, true),
+                Operation.update(missingId, "Filmes", null, true),
+                new Operation("upsert", null, "Filmes", null, true),
+                Operation.delete(null),
+                Operation.create("Filmes", null, true)
+        ));
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any())).thenReturn(List.of());
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(command);
+        final var items = actualOutput.items();
+
+        Assertions.assertEquals(Status.INVALID, items.get(0).status());
+        Assertions.assertEquals("'name' should not be null", items.get(0).errors().get(0).message());
+        Assertions.assertEquals(Status.NOT_FOUND, items.get(1).status());
+        Assertions.assertEquals("Category with ID %s was not found".formatted(missingId), items.get(1).errors().get(0).message());
+        Assertions.assertEquals(Status.INVALID, items.get(2).status());
+        Assertions.assertEquals("'op' upsert is not supported", items.get(2).errors().get(0).message());
+        Assertions.assertEquals(Status.INVALID, items.get(3).status());
+        Assertions.assertEquals("'id' should not be null", items.get(3).errors().get(0).message());
+        Assertions.assertEquals(Status.OK, items.get(4).status());
+
+        Mockito.verify(categoryGateway, Mockito.never()).updateAll(Mockito.any());
+        Mockito.verify(categoryGateway, Mockito.never()).deleteAllByIds(Mockito.any());
+    }
+
+    @Test
+    public void givenAnIdUsedTwice_whenCallsBulk_thenShouldRejectTheLaterOperation() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var id = category.getId().getValue();
+        final var command = BulkCategoriesCommand.with(List.of(
+                Operation.update(id, "Filmes", "Atualizada", true),
+                Operation.delete(id)
+        ));
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any())).thenReturn(List.of(Category.with(category)));
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).thenAnswer(returnsFirstArg());
+
+        final var items = useCase.execute(command).items();
+
+        Assertions.assertEquals(Status.OK, items.get(0).status());
+        Assertions.assertEquals(Status.INVALID, items.get(1).status());
+        Assertions.assertEquals("'id' %s is used by more than one operation".formatted(id), items.get(1).errors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.never()).deleteAllByIds(Mockito.any());
+    }
+
+    @Test
+    public void givenARowChangedConcurrently_whenCallsBulk_thenShouldReportConflict() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var id = category.getId().getValue();
+        final var command = BulkCategoriesCommand.with(List.of(Operation.update(id, "Filmes", "Atualizada", true)));
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any())).thenReturn(List.of(Category.with(category)));
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).thenReturn(List.of());
+
+        final var item = useCase.execute(command).items().get(0);
+
+        Assertions.assertEquals(Status.CONFLICT, item.status());
+        Assertions.assertEquals("Category with ID %s was modified by another request".formatted(id), item.errors().get(0).message());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsBulk_thenShouldFailOnlyThatGroup() {
+        final var expectedErrorMessage = "Gateway error";
+        final var command = BulkCategoriesCommand.with(List.of(
+                Operation.create("Filmes", null, true),
+                Operation.delete(CategoryId.unique().getValue())
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+        Mockito.when(categoryGateway.create(Mockito.any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var items = useCase.execute(command).items();
+
+        Assertions.assertEquals(Status.FAILED, items.get(0).status());
+        Assertions.assertEquals(expectedErrorMessage, items.get(0).errors().get(0).message());
+        Assertions.assertEquals(Status.OK, items.get(1).status());
+    }
+
+    @Test
+    public void givenAGroupFailingOnOneRow_whenCallsBulk_thenShouldRetryRowByRowAndFailOnlyThatRow() {
+        final var expectedErrorMessage = "Duplicate entry";
+        final var command = BulkCategoriesCommand.with(List.of(
+                Operation.create("Filmes", null, true),
+                Operation.create("Series", null, true),
+                Operation.create("Animes", null, true)
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+        Mockito.when(categoryGateway.create(Mockito.any())).thenAnswer(invocation -> {
+            final Category category = invocation.getArgument(0);
+            if (category.getName().equals("Series")) {
+                throw new IllegalStateException(expectedErrorMessage);
+            }
+            return category;
+        });
+
+        final var items = useCase.execute(command).items();
+
+        Assertions.assertEquals(
+                List.of(Status.OK, Status.FAILED, Status.OK),
+                items.stream().map(BulkCategoriesOutput.Item::status).toList()
+        );
+        Assertions.assertEquals(expectedErrorMessage, items.get(1).errors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.times(3)).create(Mockito.any());
+    }
+
+    @Test
+    public void givenAnUpdateGroupFailing_whenRetryingRowByRowFindsAStaleRow_thenShouldReportConflictForThatRow() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var command = BulkCategoriesCommand.with(List.of(
+                Operation.update(filmes.getId().getValue(), "Filmes", "Atualizada", true),
+                Operation.update(series.getId().getValue(), "Series", "Atualizada", true)
+        ));
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any()))
+                .thenReturn(List.of(Category.with(filmes), Category.with(series)));
+        Mockito.when(categoryGateway.updateAll(Mockito.any())).thenThrow(new IllegalStateException("Gateway error"));
+        Mockito.when(categoryGateway.update(Mockito.any())).thenAnswer(invocation -> {
+            final Category category = invocation.getArgument(0);
+            if (category.getId().equals(series.getId())) {
+                throw StaleVersionException.with(Category.class, category.getId());
+            }
+            return category;
+        });
+
+        final var items = useCase.execute(command).items();
+
+        Assertions.assertEquals(Status.OK, items.get(0).status());
+        Assertions.assertEquals(Status.CONFLICT, items.get(1).status());
+    }
+}
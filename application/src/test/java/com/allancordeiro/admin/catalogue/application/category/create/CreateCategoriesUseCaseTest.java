@@ -0,0 +1,108 @@
+package com.allancordeiro.admin.catalogue.application.category.create;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultCreateCategoriesUseCase useCase;
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateCategories_thenShouldCreateValidOnesAndReportFailuresPerItem() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, "Sem nome", true),
+                CreateCategoryCommand.with("Séries", null, false)
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(command).get();
+
+        Assertions.assertEquals(3, actualOutput.items().size());
+        Assertions.assertFalse(actualOutput.items().get(0).hasError());
+        Assertions.assertNotNull(actualOutput.items().get(0).id());
+        Assertions.assertTrue(actualOutput.items().get(1).hasError());
+        Assertions.assertNull(actualOutput.items().get(1).id());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).errors().get(0).message());
+        Assertions.assertFalse(actualOutput.items().get(2).hasError());
+        Assertions.assertEquals(2, actualOutput.items().get(2).index());
+
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<List<Category>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(categoryGateway, Mockito.times(1)).createAll(captor.capture());
+        final var insertedCategories = captor.getValue();
+
+        Assertions.assertEquals(2, insertedCategories.size());
+        Assertions.assertEquals("Filmes", insertedCategories.get(0).getName());
+        Assertions.assertEquals("Séries", insertedCategories.get(1).getName());
+        Assertions.assertEquals(insertedCategories.get(1).getId().getValue(), actualOutput.items().get(2).id());
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsCreateCategories_thenShouldNotCallGateway() {
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("  ", null, true)
+        ));
+
+        final var actualOutput = useCase.execute(command).get();
+
+        Assertions.assertEquals(2, actualOutput.items().size());
+        Assertions.assertTrue(actualOutput.items().stream().allMatch(CreateCategoriesOutput.Item::hasError));
+        Mockito.verify(categoryGateway, Mockito.times(0)).createAll(Mockito.any());
+    }
+
+    @Test
+    public void givenValidCommands_whenGatewayThrowsRandomException_thenShouldFailOnlyTheRowsThatFailOnTheirOwn() {
+        final var expectedErrorMessage = "Gateway error";
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true)
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+        Mockito.when(categoryGateway.create(Mockito.any()))
+                .thenAnswer(invocation -> {
+                    final Category category = invocation.getArgument(0);
+                    if ("Séries".equals(category.getName())) {
+                        throw new IllegalStateException(expectedErrorMessage);
+                    }
+                    return category;
+                });
+
+        final var actualOutput = useCase.execute(command).get();
+
+        Assertions.assertEquals(2, actualOutput.items().size());
+        Assertions.assertFalse(actualOutput.items().get(0).hasError());
+        Assertions.assertNotNull(actualOutput.items().get(0).id());
+        Assertions.assertTrue(actualOutput.items().get(1).hasError());
+        Assertions.assertNull(actualOutput.items().get(1).id());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).errors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.times(2)).create(Mockito.any());
+    }
+}
@@ -0,0 +1,70 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.export;
+
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.CategoryOutput;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsExport_thenShouldHandEachOneToTheConsumer() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", null, false)
+        );
+        final var expectedUpdatedSince = Instant.parse("2022-01-01T00:00:00Z");
+
+        Mockito.doAnswer(invocation -> {
+            final Consumer<Category> action = invocation.getArgument(1);
+            categories.forEach(action);
+            return null;
+        }).when(categoryGateway).forEach(Mockito.eq(expectedUpdatedSince), Mockito.any());
+
+        final var actualOutputs = new ArrayList<CategoryOutput>();
+        final var actualCount = useCase.execute(ExportCategoriesCommand.with(expectedUpdatedSince, actualOutputs::add));
+
+        Assertions.assertEquals(2, actualCount);
+        Assertions.assertEquals(
+                categories.stream().map(CategoryOutput::from).toList(),
+                actualOutputs
+        );
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsExport_thenShouldPropagateIt() {
+        final var expectedErrorMessage = "Gateway error";
+
+        Mockito.doThrow(new IllegalStateException(expectedErrorMessage))
+                .when(categoryGateway).forEach(Mockito.any(), Mockito.any());
+
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> useCase.execute(ExportCategoriesCommand.with(null, output -> {}))
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
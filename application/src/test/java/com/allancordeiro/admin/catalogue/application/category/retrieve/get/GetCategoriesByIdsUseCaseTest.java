@@ -0,0 +1,95 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.get;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoriesByIdsUseCaseTest {
+    @InjectMocks
+    private DefaultGetCategoriesByIdsUseCase useCase;
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenASetOfIds_whenCallsGetCategoriesByIds_shouldReturnFoundInRequestOrderAndReportMissing() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var missing = CategoryId.unique();
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any()))
+                .thenReturn(List.of(filmes.clone(), series.clone()));
+
+        final var actualOutput = useCase.execute(List.of(
+                series.getId().getValue(),
+                missing.getValue(),
+                filmes.getId().getValue(),
+                series.getId().getValue()
+        ));
+
+        Assertions.assertEquals(
+                List.of(CategoryOutput.from(series), CategoryOutput.from(filmes)),
+                actualOutput.items()
+        );
+        Assertions.assertEquals(List.of(missing.getValue()), actualOutput.missing());
+        Mockito.verify(categoryGateway, Mockito.times(1)).findAllByIds(Mockito.argThat(ids ->
+                Set.copyOf(ids).equals(Set.of(series.getId(), missing, filmes.getId()))
+        ));
+    }
+
+    @Test
+    public void givenNoIds_whenCallsGetCategoriesByIds_shouldNotCallTheGateway() {
+        final var actualOutput = useCase.execute(List.of());
+
+        Assertions.assertTrue(actualOutput.items().isEmpty());
+        Assertions.assertTrue(actualOutput.missing().isEmpty());
+        Mockito.verify(categoryGateway, Mockito.never()).findAllByIds(Mockito.any());
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsGetCategoriesByIds_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'ids' must have at most 100 entries";
+        final var ids = new ArrayList<String>();
+        for (int i = 0; i <= DefaultGetCategoriesByIdsUseCase.MAX_IDS; i++) {
+            ids.add(CategoryId.unique().getValue());
+        }
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(ids));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Mockito.verify(categoryGateway, Mockito.never()).findAllByIds(Mockito.any());
+    }
+
+    @Test
+    public void givenASetOfIds_whenGatewayThrowsException_shouldReturnException() {
+        final var expectedErrorMessage = "Gateway error";
+
+        Mockito.when(categoryGateway.findAllByIds(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualException = Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> useCase.execute(List.of(CategoryId.unique().getValue()))
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
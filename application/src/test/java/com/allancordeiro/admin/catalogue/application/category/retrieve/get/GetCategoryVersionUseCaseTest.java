@@ -0,0 +1,62 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.get;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
+import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoryVersionUseCaseTest {
+    @InjectMocks
+    private DefaultGetCategoryVersionUseCase useCase;
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCategoryVersion_shouldReturnVersionWithoutLoadingCategory() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId();
+        final var expectedUpdatedAt = category.getUpdatedAt();
+
+        Mockito.when(categoryGateway.findVersionById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(new CategoryVersion(3, expectedUpdatedAt)));
+
+        final var actualOutput = useCase.execute(expectedId.getValue());
+
+        Assertions.assertEquals(expectedId, actualOutput.id());
+        Assertions.assertEquals(3, actualOutput.version());
+        Assertions.assertEquals(expectedUpdatedAt, actualOutput.updatedAt());
+        Mockito.verify(categoryGateway, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetCategoryVersion_shouldReturnNotFound() {
+        final var expectedId = CategoryId.from("123");
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(expectedId.getValue());
+
+        Mockito.when(categoryGateway.findVersionById(Mockito.eq(expectedId))).thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(expectedId.getValue())
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
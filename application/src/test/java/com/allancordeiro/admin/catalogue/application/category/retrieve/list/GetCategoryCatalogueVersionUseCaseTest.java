@@ -0,0 +1,43 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.list;
+
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoryCatalogueVersionUseCaseTest {
+    @InjectMocks
+    private DefaultGetCategoryCatalogueVersionUseCase useCase;
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAStoredCatalogue_whenCallsGetCatalogueVersion_shouldReturnItWithoutListing() {
+        final var expectedUpdatedAt = Instant.now();
+
+        Mockito.when(categoryGateway.findCatalogueVersion())
+                .thenReturn(new CategoryCatalogueVersion(4, 7, expectedUpdatedAt));
+
+        final var actualOutput = useCase.execute();
+
+        Assertions.assertEquals(4, actualOutput.count());
+        Assertions.assertEquals(7, actualOutput.versions());
+        Assertions.assertEquals(expectedUpdatedAt, actualOutput.updatedAt());
+        Mockito.verify(categoryGateway, Mockito.never()).findAll(Mockito.any());
+        Mockito.verify(categoryGateway, Mockito.never()).findAllByCursor(Mockito.any());
+    }
+}
@@ -0,0 +1,69 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.list;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListCategoriesByCursorUseCaseTest {
+    @InjectMocks
+    private DefaultListCategoriesByCursorUseCase useCase;
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategoriesByCursor_thenShouldReturnCategoryListAndNextCursor() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)
+        );
+
+        final var expectedPerPage = 2;
+        final var expectedCursor = "abc";
+        final var expectedNextCursor = "def";
+        final var query = new CategorySearchQuery(0, expectedPerPage, "", "name", "asc", expectedCursor);
+        final var expectedPagination = new CursorPagination<>(expectedPerPage, expectedNextCursor, categories);
+
+        final var expectedItemsCount = 2;
+        final var expectedResult = expectedPagination.map(CategoryListOutput::from);
+
+        Mockito.when(categoryGateway.findAllByCursor(Mockito.eq(query)))
+                .thenReturn(expectedPagination);
+
+        final var actualResult = useCase.execute(query);
+
+        Assertions.assertEquals(expectedItemsCount, actualResult.items().size());
+        Assertions.assertEquals(expectedResult, actualResult);
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(expectedNextCursor, actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenAValidQuery_whenGatewayThrowsAnException_thenShouldReturnException() {
+        final var expectedErrorMessage = "Gateway error";
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc", "");
+
+        Mockito.when(categoryGateway.findAllByCursor(Mockito.eq(query)))
+                .thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
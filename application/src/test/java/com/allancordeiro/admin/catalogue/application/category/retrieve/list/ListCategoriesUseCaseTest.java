@@ -3,6 +3,7 @@ package com.allancordeiro.admin.catalogue.application.category.retrieve.list;
 import com.allancordeiro.admin.catalogue.domain.category.Category;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
 import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
 import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -107,4 +108,38 @@ public class ListCategoriesUseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
 
     }
+
+    @Test
+    public void givenAQueryWithoutTotal_whenCallsListCategories_thenShouldReturnSlice() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)
+        );
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 2;
+        final var query = new CategorySearchQuery(expectedPage, expectedPerPage, "", "name", "asc", null, false);
+        final var expectedPagination = Pagination.slice(expectedPage, expectedPerPage, categories, true);
+        final var expectedResult = expectedPagination.map(CategoryListOutput::from);
+
+        Mockito.when(categoryGateway.findAll(Mockito.eq(query)))
+                .thenReturn(expectedPagination);
+
+        final var actualResult = useCase.execute(query);
+
+        Assertions.assertEquals(expectedResult, actualResult);
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+    }
+
+    @Test
+    public void givenAnUnknownSort_whenCallsListCategories_thenShouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' description is not supported";
+        final var query = new CategorySearchQuery(0, 10, "", "description", "asc");
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        Mockito.verify(categoryGateway, Mockito.times(0)).findAll(Mockito.any());
+    }
 }
@@ -0,0 +1,131 @@
+package com.allancordeiro.admin.catalogue.application.category.update;
+
+import com.allancordeiro.admin.catalogue.application.utils.StripedLock;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class SerializedUpdateCategoryUseCaseTest {
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 200;
+
+    @Test
+    public void givenConcurrentUpdatesOfTheSameId_whenCallsExecute_thenShouldRunThemOneAtATime() throws Exception {
+        final var id = CategoryId.unique().getValue();
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+        final var completed = new AtomicInteger();
+        final var useCase = new SerializedUpdateCategoryUseCase(delegate(command -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.yield();
+            inFlight.decrementAndGet();
+            completed.incrementAndGet();
+            return API.Right(UpdateCategoryOutput.from(command.id()));
+        }), new StripedLock(64));
+
+        runConcurrently(THREADS, () -> {
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                useCase.execute(UpdateCategoryCommand.with(id, "Filmes " + i, null, true));
+            }
+            return null;
+        });
+
+        Assertions.assertEquals(1, maxInFlight.get());
+        Assertions.assertEquals(THREADS * UPDATES_PER_THREAD, completed.get());
+    }
+
+    @Test
+    public void givenUpdatesOfDifferentIds_whenCallsExecute_thenShouldNotWaitForEachOther() throws Exception {
+        final var locks = new StripedLock(1024);
+        final var ids = distinctStripeIds(locks, 2);
+        final var bothInside = new CountDownLatch(2);
+        final var useCase = new SerializedUpdateCategoryUseCase(delegate(command -> {
+            bothInside.countDown();
+            try {
+                // only returns true if the other update entered while this one holds its lock
+                return bothInside.await(5, TimeUnit.SECONDS)
+                        ? API.Right(UpdateCategoryOutput.from(command.id()))
+                        : API.Left(Notification.create(new IllegalStateException("serialized")));
+            } catch (final InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }), locks);
+
+        final var results = new ArrayList<Either<Notification, UpdateCategoryOutput>>();
+        final var index = new AtomicInteger();
+        runConcurrently(2, () -> {
+            final var result = useCase.execute(UpdateCategoryCommand.with(ids.get(index.getAndIncrement()), "Filmes", null, true));
+            synchronized (results) {
+                results.add(result);
+            }
+            return null;
+        });
+
+        Assertions.assertTrue(results.stream().allMatch(Either::isRight));
+        Assertions.assertEquals(0, useCase.contended());
+    }
+
+    @Test
+    public void givenADelegateThatThrows_whenCallsExecute_thenShouldReleaseTheLock() {
+        final var id = CategoryId.unique().getValue();
+        final var locks = new StripedLock(8);
+        final var useCase = new SerializedUpdateCategoryUseCase(delegate(command -> {
+            throw new IllegalStateException("Gateway error");
+        }), locks);
+
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> useCase.execute(UpdateCategoryCommand.with(id, "Filmes", null, true))
+        );
+        Assertions.assertFalse(locks.get(CategoryId.from(id)).isLocked());
+    }
+
+    private static UpdateCategoryUseCase delegate(
+            final Function<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> body
+    ) {
+        return new UpdateCategoryUseCase() {
+            @Override
+            public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand command) {
+                return body.apply(command);
+            }
+        };
+    }
+
+    private static List<String> distinctStripeIds(final StripedLock locks, final int count) {
+        final var ids = new ArrayList<String>();
+        while (ids.size() < count) {
+            final var id = CategoryId.unique();
+            if (ids.stream().noneMatch(it -> locks.get(CategoryId.from(it)) == locks.get(id))) {
+                ids.add(id.getValue());
+            }
+        }
+        return ids;
+    }
+
+    private static void runConcurrently(final int threads, final Callable<Void> task) throws Exception {
+        final var executor = Executors.newFixedThreadPool(threads);
+        try {
+            final var tasks = new ArrayList<Callable<Void>>();
+            for (int i = 0; i < threads; i++) {
+                tasks.add(task);
+            }
+            for (final var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
 import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
 import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -205,4 +206,71 @@ public class UpdateCategoryUseCaseTest {
 
         Mockito.verify(categoryGateway, Mockito.times(0)).update(Mockito.any());
     }
+
+    @Test
+    public void givenACommandWithUnchangedValues_whenCallsUpdateCategory_thenShouldSkipTheWrite() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId();
+
+        final var command = UpdateCategoryCommand.with(
+                expectedId.getValue(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive()
+        );
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(category.clone()));
+
+        final var actualOutput = useCase.execute(command).get();
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Mockito.verify(categoryGateway, Mockito.times(0)).update(Mockito.any());
+    }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallsUpdateCategory_thenShouldThrowWithoutWriting() {
+        final var category = Category.newCategory("Film", null, true);
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true, 1L);
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(category.getId())))
+                .thenReturn(Optional.of(category.clone()));
+
+        Assertions.assertThrows(StaleVersionException.class, () -> useCase.execute(command));
+
+        Mockito.verify(categoryGateway, Mockito.never()).update(Mockito.any());
+    }
+
+    @Test
+    public void givenAConditionalUpdateThatLosesARace_whenCallsUpdateCategory_thenShouldThrow() {
+        final var category = Category.newCategory("Film", null, true);
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true, 0L);
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(category.getId())))
+                .thenReturn(Optional.of(category.clone()));
+        Mockito.when(categoryGateway.update(Mockito.any()))
+                .thenThrow(StaleVersionException.with(Category.class, category.getId()));
+
+        Assertions.assertThrows(StaleVersionException.class, () -> useCase.execute(command));
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).update(Mockito.any());
+    }
+
+    @Test
+    public void givenAnUnconditionalUpdateThatLosesARace_whenCallsUpdateCategory_thenShouldRetryOnTheFreshRow() {
+        final var category = Category.newCategory("Film", null, true);
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true);
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(category.getId())))
+                .thenReturn(Optional.of(category.clone()), Optional.of(category.clone()));
+        Mockito.when(categoryGateway.update(Mockito.any()))
+                .thenThrow(StaleVersionException.with(Category.class, category.getId()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(command).get();
+
+        Assertions.assertEquals(category.getId().getValue(), actualOutput.id());
+        Mockito.verify(categoryGateway, Mockito.times(2)).findById(Mockito.eq(category.getId()));
+        Mockito.verify(categoryGateway, Mockito.times(2)).update(Mockito.any());
+    }
 }
@@ -5,7 +5,10 @@ import com.allancordeiro.admin.catalogue.domain.utils.InstantUtils;
 import com.allancordeiro.admin.catalogue.domain.validation.ValidationHandler;
 
 import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 public class Category extends AggregateRoot<CategoryId> implements Cloneable {
@@ -15,6 +18,8 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
+    private EnumSet<CategoryField> changes = EnumSet.noneOf(CategoryField.class);
 
     private Category(final CategoryId id,
                      final String name,
@@ -22,7 +27,8 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
                      final boolean active,
                      final Instant createdAt,
                      final Instant updatedAt,
-                     final Instant deletedAt
+                     final Instant deletedAt,
+                     final long version
     ) {
         super(id);
         this.name = name;
@@ -31,13 +37,14 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
         this.createdAt = Objects.requireNonNull(createdAt, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "'updatedAt' should not be null");
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static Category newCategory(final String name, final String description, final boolean active) {
         final var id = CategoryId.unique();
         final var now = InstantUtils.now();
         final var deletedAt = active ? null : now;
-        return new Category(id, name, description, active, now, now, deletedAt);
+        return new Category(id, name, description, active, now, now, deletedAt, 0);
     }
 
     public static Category with(final Category category) {
@@ -48,7 +55,8 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
                 category.isActive(),
                 category.createdAt,
                 category.updatedAt,
-                category.deletedAt
+                category.deletedAt,
+                category.version
         );
     }
 
@@ -60,6 +68,18 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
             final Instant createdAt,
             final Instant updatedAt, final
             Instant deletedAt) {
+        return with(id, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(
+            final CategoryId id,
+            final String name,
+            final String description,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version) {
         return new Category(
                 id,
                 name,
@@ -67,7 +87,8 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
                 active,
                 createdAt,
                 updatedAt,
-                deletedAt
+                deletedAt,
+                version
         );
     }
 
@@ -77,9 +98,14 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
     }
 
     public Category activate() {
-        this.active = true;
-        this.deletedAt = null;
-        this.updatedAt = Instant.now();
+        if (!this.active) {
+            this.active = true;
+            changed(CategoryField.ACTIVE);
+        }
+        if (this.deletedAt != null) {
+            this.deletedAt = null;
+            changed(CategoryField.DELETED_AT);
+        }
         return this;
     }
 
@@ -89,20 +115,41 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
         } else {
             deactivate();
         }
-        this.name = name;
-        this.description = description;
-        this.updatedAt = Instant.now();
+        if (!Objects.equals(this.name, name)) {
+            this.name = name;
+            changed(CategoryField.NAME);
+        }
+        if (!Objects.equals(this.description, description)) {
+            this.description = description;
+            changed(CategoryField.DESCRIPTION);
+        }
         return this;
     }
 
     public Category deactivate() {
         if (getDeletedAt() == null) {
             this.deletedAt = Instant.now();
+            changed(CategoryField.DELETED_AT);
+        }
+        if (this.active) {
+            this.active = false;
+            changed(CategoryField.ACTIVE);
         }
+        return this;
+    }
 
-        this.active = false;
+    public Set<CategoryField> getChanges() {
+        return Collections.unmodifiableSet(changes);
+    }
+
+    public boolean hasChanges() {
+        return !changes.isEmpty();
+    }
+
+    private void changed(final CategoryField field) {
+        this.changes.add(field);
+        this.changes.add(CategoryField.UPDATED_AT);
         this.updatedAt = Instant.now();
-        return this;
     }
 
     public CategoryId getId() {
@@ -133,10 +180,17 @@ public class Category extends AggregateRoot<CategoryId> implements Cloneable {
         return deletedAt;
     }
 
+    // bumped by the gateway on every stored update; compared to detect concurrent writes
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public Category clone() {
         try {
-            return (Category) super.clone();
+            final var clone = (Category) super.clone();
+            clone.changes = this.changes.clone();
+            return clone;
         } catch (CloneNotSupportedException e) {
             throw new AssertionError();
         }
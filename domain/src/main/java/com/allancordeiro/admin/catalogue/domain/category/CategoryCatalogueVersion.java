@@ -0,0 +1,8 @@
+package com.allancordeiro.admin.catalogue.domain.category;
+
+import java.time.Instant;
+
+// changes whenever a category is created, updated or deleted: updates bump a row version, creates
+// and deletes move the count. updatedAt is null while the catalogue is empty
+public record CategoryCatalogueVersion(long count, long versions, Instant updatedAt) {
+}
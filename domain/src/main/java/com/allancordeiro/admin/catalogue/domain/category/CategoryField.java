@@ -0,0 +1,9 @@
+package com.allancordeiro.admin.catalogue.domain.category;
+
+public enum CategoryField {
+    NAME,
+    DESCRIPTION,
+    ACTIVE,
+    UPDATED_AT,
+    DELETED_AT
+}
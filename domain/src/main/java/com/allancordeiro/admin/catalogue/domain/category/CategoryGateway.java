@@ -1,13 +1,26 @@
 package com.allancordeiro.admin.catalogue.domain.category;
 
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
 import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
     Category create(Category category);
+    List<Category> createAll(List<Category> categories);
     void deleteById(CategoryId id);
+    void deleteAllByIds(Collection<CategoryId> ids);
     Optional<Category> findById(CategoryId id);
+    Optional<CategoryVersion> findVersionById(CategoryId id);
+    CategoryCatalogueVersion findCatalogueVersion();
+    List<Category> findAllByIds(Collection<CategoryId> ids);
     Category update(Category category);
+    List<Category> updateAll(List<Category> categories);
     Pagination<Category> findAll(CategorySearchQuery query);
+    CursorPagination<Category> findAllByCursor(CategorySearchQuery query);
+    void forEach(Instant updatedSince, Consumer<Category> action);
 }
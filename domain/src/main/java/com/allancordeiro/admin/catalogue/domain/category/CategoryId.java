@@ -1,34 +1,55 @@
 package com.allancordeiro.admin.catalogue.domain.category;
 
 import com.allancordeiro.admin.catalogue.domain.Identifier;
+import com.allancordeiro.admin.catalogue.domain.utils.IdUtils;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 public class CategoryId extends Identifier {
+    private static final int UUID_LENGTH = 36;
 
-    private final String value;
+    private final long mostSigBits;
+    private final long leastSigBits;
+    // keeps input that is not a UUID so it can be reported back; no stored category can match it
+    private final String unparsed;
 
-    private CategoryId(String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+    private CategoryId(final long mostSigBits, final long leastSigBits, final String unparsed) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.unparsed = unparsed;
     }
 
     public static CategoryId unique() {
-        return CategoryId.from(UUID.randomUUID());
+        return CategoryId.from(IdUtils.uuid7());
     }
 
     public static CategoryId from(final String id) {
-        return new CategoryId(id);
+        Objects.requireNonNull(id);
+        if (id.length() == UUID_LENGTH) {
+            try {
+                return CategoryId.from(UUID.fromString(id));
+            } catch (final IllegalArgumentException ignored) {
+                // falls through to the unparsed form
+            }
+        }
+        return new CategoryId(0L, 0L, id);
     }
 
     public static CategoryId from(final UUID id) {
-        return new CategoryId(id.toString().toLowerCase());
+        return new CategoryId(id.getMostSignificantBits(), id.getLeastSignificantBits(), null);
+    }
+
+    public Optional<UUID> toUUID() {
+        return unparsed == null
+                ? Optional.of(new UUID(mostSigBits, leastSigBits))
+                : Optional.empty();
     }
 
     @Override
     public String getValue() {
-        return value;
+        return unparsed == null ? new UUID(mostSigBits, leastSigBits).toString() : unparsed;
     }
 
     @Override
@@ -36,11 +57,13 @@ public class CategoryId extends Identifier {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final CategoryId that = (CategoryId) o;
-        return getValue().equals(that.getValue());
+        return mostSigBits == that.mostSigBits
+                && leastSigBits == that.leastSigBits
+                && Objects.equals(unparsed, that.unparsed);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getValue());
+        return unparsed == null ? Long.hashCode(mostSigBits ^ leastSigBits) : unparsed.hashCode();
     }
 }
@@ -1,4 +1,45 @@
 package com.allancordeiro.admin.catalogue.domain.category;
 
-public record CategorySearchQuery(int page, int perPage, String terms, String sort, String direction) {
+public record CategorySearchQuery(
+        int page,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        String cursor,
+        boolean withTotal,
+        String mode
+) {
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, true);
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final boolean withTotal
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, withTotal, "contains");
+    }
 }
@@ -0,0 +1,6 @@
+package com.allancordeiro.admin.catalogue.domain.category;
+
+import java.time.Instant;
+
+public record CategoryVersion(long version, Instant updatedAt) {
+}
@@ -0,0 +1,20 @@
+package com.allancordeiro.admin.catalogue.domain.exceptions;
+
+import com.allancordeiro.admin.catalogue.domain.AggregateRoot;
+import com.allancordeiro.admin.catalogue.domain.Identifier;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class StaleVersionException extends DomainException {
+    protected StaleVersionException(final String message, final List<Error> errors) {
+        super(message, errors);
+    }
+
+    public static StaleVersionException with(final Class<? extends AggregateRoot<?>> aggregate, final Identifier id) {
+        final var error = "%s with ID %s was modified by another request".formatted(aggregate.getSimpleName(), id.getValue());
+
+        return new StaleVersionException(error, Collections.emptyList());
+    }
+}
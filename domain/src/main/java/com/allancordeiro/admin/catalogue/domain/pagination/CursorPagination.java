@@ -0,0 +1,11 @@
+package com.allancordeiro.admin.catalogue.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPagination<T>(int perPage, String nextCursor, List<T> items) {
+    public <R> CursorPagination<R> map(final Function<T, R> mapper) {
+        final List<R> newList = this.items.stream().map(mapper).toList();
+        return new CursorPagination<>(perPage(), nextCursor(), newList);
+    }
+}
@@ -3,9 +3,24 @@ package com.allancordeiro.admin.catalogue.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
-public record Pagination<T>(int currentPage, int perPage, long total, List<T> items) {
+public record Pagination<T>(int currentPage, int perPage, long total, List<T> items, boolean hasNext) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, (long) (currentPage + 1) * perPage < total);
+    }
+
+    public static <T> Pagination<T> slice(
+            final int currentPage,
+            final int perPage,
+            final List<T> items,
+            final boolean hasNext
+    ) {
+        return new Pagination<>(currentPage, perPage, UNKNOWN_TOTAL, items, hasNext);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> newList = this.items.stream().map(mapper).toList();
-        return new Pagination<>(currentPage(), perPage(), total(), newList);
+        return new Pagination<>(currentPage(), perPage(), total(), newList, hasNext());
     }
 }
@@ -0,0 +1,37 @@
+package com.allancordeiro.admin.catalogue.domain.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class IdUtils {
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+
+    // unix millis in the upper 48 bits, a per-millisecond counter in the lower 12
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private IdUtils() {}
+
+    public static UUID uuid7() {
+        final var state = next();
+        final var msb = (state >>> COUNTER_BITS) << 16
+                | VERSION_7
+                | (state & ((1L << COUNTER_BITS) - 1));
+        final var lsb = ThreadLocalRandom.current().nextLong() & VARIANT_MASK | VARIANT_RFC_4122;
+        return new UUID(msb, lsb);
+    }
+
+    private static long next() {
+        while (true) {
+            final var previous = LAST.get();
+            final var now = System.currentTimeMillis() << COUNTER_BITS;
+            final var candidate = now > previous ? now : previous + 1;
+            if (LAST.compareAndSet(previous, candidate)) {
+                return candidate;
+            }
+        }
+    }
+}
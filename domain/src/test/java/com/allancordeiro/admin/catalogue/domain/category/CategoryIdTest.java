@@ -0,0 +1,75 @@
+package com.allancordeiro.admin.catalogue.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+class CategoryIdTest {
+    @Test
+    public void givenNoParams_whenCallsUnique_thenShouldReturnAVersion7Uuid() {
+        final var actualId = CategoryId.unique();
+
+        final var actualUuid = UUID.fromString(actualId.getValue());
+
+        Assertions.assertEquals(7, actualUuid.version());
+        Assertions.assertEquals(2, actualUuid.variant());
+        Assertions.assertEquals(actualUuid.toString(), actualId.getValue());
+    }
+
+    @Test
+    public void givenManyCalls_whenCallsUnique_thenShouldReturnDistinctIdsInCreationOrder() {
+        final var expectedCount = 10_000;
+
+        final var actualIds = new ArrayList<String>();
+        for (int i = 0; i < expectedCount; i++) {
+            actualIds.add(CategoryId.unique().getValue());
+        }
+
+        final var sortedIds = new ArrayList<>(actualIds);
+        Collections.sort(sortedIds);
+
+        Assertions.assertEquals(expectedCount, new HashSet<>(actualIds).size());
+        Assertions.assertEquals(sortedIds, actualIds);
+    }
+
+    @Test
+    public void givenConcurrentCalls_whenCallsUnique_thenShouldNotRepeatIds() {
+        final var expectedCount = 50_000;
+        final var actualIds = ConcurrentHashMap.<String>newKeySet();
+
+        IntStream.range(0, expectedCount)
+                .parallel()
+                .forEach(i -> actualIds.add(CategoryId.unique().getValue()));
+
+        Assertions.assertEquals(expectedCount, actualIds.size());
+    }
+
+    @Test
+    public void givenAUuidString_whenCallsFrom_thenShouldBeEqualToTheUuidForm() {
+        final var expectedUuid = UUID.fromString("01890a5d-ac96-774b-bcce-b302099a8057");
+
+        final var actualId = CategoryId.from(expectedUuid.toString().toUpperCase());
+
+        Assertions.assertEquals(CategoryId.from(expectedUuid), actualId);
+        Assertions.assertEquals(CategoryId.from(expectedUuid).hashCode(), actualId.hashCode());
+        Assertions.assertEquals(expectedUuid.toString(), actualId.getValue());
+        Assertions.assertEquals(expectedUuid, actualId.toUUID().get());
+    }
+
+    @Test
+    public void givenANonUuidString_whenCallsFrom_thenShouldKeepItsTextWithoutUuid() {
+        final var expectedValue = "123";
+
+        final var actualId = CategoryId.from(expectedValue);
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertTrue(actualId.toUUID().isEmpty());
+        Assertions.assertEquals(CategoryId.from(expectedValue), actualId);
+    }
+}
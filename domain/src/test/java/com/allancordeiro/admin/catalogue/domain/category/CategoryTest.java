@@ -5,6 +5,8 @@ import com.allancordeiro.admin.catalogue.domain.validation.handler.ThrowsValidat
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class CategoryTest {
@@ -270,4 +272,42 @@ class CategoryTest {
         Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenAValidCategory_whenCallUpdateWithSameValues_thenShouldNotTrackChanges() {
+        final var category = Category.newCategory("Filmes", "a categoria mais assistida", true);
+        final var updatedAt = category.getUpdatedAt();
+
+        final var actualCategory = category.update("Filmes", "a categoria mais assistida", true);
+
+        Assertions.assertFalse(actualCategory.hasChanges());
+        Assertions.assertTrue(actualCategory.getChanges().isEmpty());
+        Assertions.assertEquals(updatedAt, actualCategory.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallUpdateChangingDescription_thenShouldTrackOnlyDescription() {
+        final var category = Category.newCategory("Filmes", "a categoria", true);
+        final var updatedAt = category.getUpdatedAt();
+
+        final var actualCategory = category.update("Filmes", "a categoria mais assistida", true);
+
+        Assertions.assertEquals(
+                EnumSet.of(CategoryField.DESCRIPTION, CategoryField.UPDATED_AT),
+                actualCategory.getChanges()
+        );
+        Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
+    }
+
+    @Test
+    public void givenAValidActiveCategory_whenCallUpdateToInactive_thenShouldTrackActiveAndDeletedAt() {
+        final var category = Category.newCategory("Filmes", null, true);
+
+        final var actualCategory = category.update("Filmes", null, false);
+
+        Assertions.assertEquals(
+                EnumSet.of(CategoryField.ACTIVE, CategoryField.DELETED_AT, CategoryField.UPDATED_AT),
+                actualCategory.getChanges()
+        );
+    }
+}
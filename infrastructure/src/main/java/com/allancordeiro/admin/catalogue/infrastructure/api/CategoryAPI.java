@@ -1,17 +1,22 @@
 package com.allancordeiro.admin.catalogue.infrastructure.api;
 
-import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
-import com.allancordeiro.admin.catalogue.infrastructure.category.models.CategoryResponse;
+import com.allancordeiro.admin.catalogue.infrastructure.category.models.CategoriesByIdsResponse;
 import com.allancordeiro.admin.catalogue.infrastructure.category.models.CreateCategoryRequest;
 import com.allancordeiro.admin.catalogue.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -22,26 +27,76 @@ public interface CategoryAPI {
     )
     @Operation(summary = "Create a new category")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Created successfully"),
+            @ApiResponse(responseCode = "201", description = "Created successfully, or replayed for a known Idempotency-Key"),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still being processed"),
             @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
             @ApiResponse(responseCode = "500", description = "An internal server error was throw. Call support"),
     })
-    ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
+    ResponseEntity<?> createCategory(
+            @RequestBody CreateCategoryRequest input,
+            @RequestHeader(name = "Idempotency-Key", required = false) final String idempotencyKey
+    );
+    @PostMapping(
+            value = "_bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create, update and delete categories from a streamed array of operations")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Operations processed, with a status per item"),
+            @ApiResponse(responseCode = "422", description = "The body is not an array of operations"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was throw. Call support"),
+            @ApiResponse(responseCode = "503", description = "Too many streamed requests are running, retry later"),
+    })
+    ResponseEntity<StreamingResponseBody> bulkCategories(HttpServletRequest request) throws IOException;
+
     @GetMapping
-    @Operation(summary = "List all categories paginated")
+    @Operation(summary = "List all categories paginated, by page or by cursor")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Data shown"),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the given ETag"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was throw. Call support"),
     })
-    Pagination<?> listCategories(
+    ResponseEntity<?> listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "withTotal", required = false, defaultValue = "true") final boolean withTotal,
+            @RequestParam(name = "mode", required = false, defaultValue = "contains") final String mode,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding,
+            HttpServletRequest request
     );
 
+    @GetMapping(value = "export")
+    @Operation(summary = "Stream every category, or those updated since a given instant, as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories streamed"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was throw. Call support"),
+            @ApiResponse(responseCode = "503", description = "Too many exports are running, retry later"),
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories(
+            @RequestParam(name = "format", required = false, defaultValue = "ndjson") final String format,
+            @RequestParam(name = "updatedSince", required = false) final String updatedSince,
+            HttpServletRequest request
+    );
+
+    @GetMapping(
+            params = "ids",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get the categories of a set of identifiers, reporting the ones not found")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "Too many identifiers were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was throw. Call support"),
+    })
+    CategoriesByIdsResponse getByIds(@RequestParam(name = "ids") List<String> ids);
+
     @GetMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -49,10 +104,15 @@ public interface CategoryAPI {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category retrievied successfully "),
+            @ApiResponse(responseCode = "304", description = "Category not modified since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was throw. Call support"),
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<?> getById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request
+    );
 
     @PutMapping(
             value = "{id}",
@@ -63,9 +123,14 @@ public interface CategoryAPI {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully "),
             @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "412", description = "Category changed since the ETag given in If-Match"),
             @ApiResponse(responseCode = "500", description = "An internal server error was throw. Call support"),
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestBody UpdateCategoryRequest input,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    );
 
     @DeleteMapping(
             value = "{id}",
@@ -1,55 +1,142 @@
 package com.allancordeiro.admin.catalogue.infrastructure.api.controllers;
 
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesCommand;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesUseCase;
 import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoryCommand;
 import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoryOutput;
 import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoryUseCase;
 import com.allancordeiro.admin.catalogue.application.category.delete.DeleteCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.export.ExportCategoriesCommand;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoryVersionUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.GetCategoryCatalogueVersionUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.ListCategoriesByCursorUseCase;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.list.ListCategoriesUseCase;
 import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryCommand;
 import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryOutput;
 import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
 import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
-import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
 import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
 import com.allancordeiro.admin.catalogue.infrastructure.api.CategoryAPI;
-import com.allancordeiro.admin.catalogue.infrastructure.category.models.CategoryListResponse;
-import com.allancordeiro.admin.catalogue.infrastructure.category.models.CategoryResponse;
+import com.allancordeiro.admin.catalogue.infrastructure.category.models.BulkCategoryRequest;
+import com.allancordeiro.admin.catalogue.infrastructure.category.models.BulkCategoryResponse;
+import com.allancordeiro.admin.catalogue.infrastructure.category.models.CategoriesByIdsResponse;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryExportBusyException;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryExportFormat;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryHttpCaching;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryResponseCache;
 import com.allancordeiro.admin.catalogue.infrastructure.category.models.CreateCategoryRequest;
 import com.allancordeiro.admin.catalogue.infrastructure.category.models.UpdateCategoryRequest;
 import com.allancordeiro.admin.catalogue.infrastructure.category.presenters.CategoryApiPresenter;
+import com.allancordeiro.admin.catalogue.infrastructure.configuration.json.Json;
+import com.allancordeiro.admin.catalogue.infrastructure.idempotency.IdempotencyStore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 @RestController
 public class CategoryController implements CategoryAPI {
+    private static final String CREATE_SCOPE = "categories:create";
+    private static final String STREAMING = CategoryController.class.getName() + ".streaming";
 
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final BulkCategoriesUseCase bulkCategoriesUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final GetCategoryVersionUseCase getCategoryVersionUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ListCategoriesByCursorUseCase listCategoriesByCursorUseCase;
+    private final GetCategoryCatalogueVersionUseCase getCategoryCatalogueVersionUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final CategoryResponseCache responseCache;
+    private final CategoryHttpCaching httpCaching;
+    private final IdempotencyStore idempotencyStore;
+    private final int bulkChunkSize;
+    private final Duration bulkTimeout;
+    private final Duration exportTimeout;
+    private final int exportMaximumConcurrent;
+    private final Semaphore exports;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
+            final BulkCategoriesUseCase bulkCategoriesUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
+            final GetCategoryVersionUseCase getCategoryVersionUseCase,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ListCategoriesByCursorUseCase listCategoriesByCursorUseCase,
+            final GetCategoryCatalogueVersionUseCase getCategoryCatalogueVersionUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase,
+            final CategoryResponseCache responseCache,
+            final CategoryHttpCaching httpCaching,
+            final IdempotencyStore idempotencyStore,
+            @Value("${category.bulk.chunk-size:500}") final int bulkChunkSize,
+            @Value("${category.bulk.timeout:10m}") final Duration bulkTimeout,
+            @Value("${category.export.timeout:10m}") final Duration exportTimeout,
+            @Value("${category.export.maximum-concurrent:4}") final int exportMaximumConcurrent
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.bulkCategoriesUseCase = Objects.requireNonNull(bulkCategoriesUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.getCategoryVersionUseCase = Objects.requireNonNull(getCategoryVersionUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.listCategoriesByCursorUseCase = Objects.requireNonNull(listCategoriesByCursorUseCase);
+        this.getCategoryCatalogueVersionUseCase = Objects.requireNonNull(getCategoryCatalogueVersionUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.responseCache = Objects.requireNonNull(responseCache);
+        this.httpCaching = Objects.requireNonNull(httpCaching);
+        this.idempotencyStore = Objects.requireNonNull(idempotencyStore);
+        this.bulkChunkSize = bulkChunkSize;
+        this.bulkTimeout = Objects.requireNonNull(bulkTimeout);
+        this.exportTimeout = Objects.requireNonNull(exportTimeout);
+        this.exportMaximumConcurrent = exportMaximumConcurrent;
+        this.exports = new Semaphore(exportMaximumConcurrent);
     }
 
     @Override
-    public ResponseEntity<?> createCategory(final CreateCategoryRequest input) {
+    public ResponseEntity<?> createCategory(final CreateCategoryRequest input, final String idempotencyKey) {
         final var command = CreateCategoryCommand.with(
                 input.name(),
                 input.description(),
@@ -60,34 +147,163 @@ public class CategoryController implements CategoryAPI {
         final Function<CreateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
                 ResponseEntity.created(URI.create("/categories/" + output.id())).body(output);
 
-        return this.createCategoryUseCase.execute(command)
+        if (idempotencyKey == null) {
+            return this.createCategoryUseCase.execute(command)
+                    .fold(onError, onSuccess);
+        }
+
+        // a retry with the same key and body gets the first id back without running the use case again
+        final var fingerprint = DigestUtils.md5DigestAsHex(Json.writeValueAsBytes(command));
+        return this.idempotencyStore.execute(
+                        CREATE_SCOPE,
+                        idempotencyKey,
+                        fingerprint,
+                        () -> this.createCategoryUseCase.execute(command).map(CreateCategoryOutput::id)
+                )
+                .map(CreateCategoryOutput::from)
                 .fold(onError, onSuccess);
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(
+    public ResponseEntity<StreamingResponseBody> bulkCategories(final HttpServletRequest request) throws IOException {
+        final var parser = Json.mapper().createParser(request.getInputStream());
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            parser.close();
+            throw DomainException.with(new Error("the body should be an array of operations"));
+        }
+
+        // the body is read, written and answered one chunk at a time, so memory does not grow with it
+        streaming(request, this.bulkTimeout, () -> {});
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> {
+                    try (parser; final var generator = Json.mapper().createGenerator(out)) {
+                        generator.writeStartArray();
+                        bulk(parser, generator);
+                        generator.writeEndArray();
+                    }
+                });
+    }
+
+    @Override
+    public ResponseEntity<?> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction) {
-        return listCategoriesUseCase
-                .execute(new CategorySearchQuery(page, perPage, search, sort, direction))
-                .map(CategoryApiPresenter::present);
+            final String direction,
+            final String cursor,
+            final boolean withTotal,
+            final String mode,
+            final String acceptEncoding,
+            final HttpServletRequest request) {
+        final var query = new CategorySearchQuery(page, perPage, search, sort, direction, cursor, withTotal, mode);
+        // a page has no single updatedAt, so it is validated by its etag only. the etag comes from the
+        // catalogue version, read before the page so a write racing the query leaves it older than the body
+        final var etag = CategoryHttpCaching.etag(this.getCategoryCatalogueVersionUseCase.execute(), query);
+        final var notModified = this.httpCaching.notModified(request, etag, null);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        final var key = new PageKey(this.responseCache.version(), query);
+        final var encoded = cursor != null
+                ? this.responseCache.get(key, () -> listCategoriesByCursorUseCase
+                        .execute(query)
+                        .map(CategoryApiPresenter::present))
+                : this.responseCache.get(key, () -> listCategoriesUseCase
+                        .execute(query)
+                        .map(CategoryApiPresenter::present));
+        return this.httpCaching.respond(encoded, etag, ResponseEntity.ok(), acceptEncoding);
+    }
+
+    @Override
+    public ResponseEntity<?> getById(final String id, final String acceptEncoding, final HttpServletRequest request) {
+        // a conditional request is answered from updatedAt alone; the row is loaded only when it changed
+        if (CategoryHttpCaching.isConditional(request)) {
+            final var version = this.getCategoryVersionUseCase.execute(id);
+            final var notModified = this.httpCaching.notModified(
+                    request,
+                    CategoryHttpCaching.etag(version.id(), version.version()),
+                    version.updatedAt()
+            );
+            if (notModified.isPresent()) {
+                return notModified.get();
+            }
+        }
+
+        final var output = this.getCategoryByIdUseCase.execute(id);
+        final var encoded = this.responseCache.get(
+                new CategoryKey(output.id(), output.version()),
+                () -> CategoryApiPresenter.present(output)
+        );
+        return this.httpCaching.respond(
+                encoded,
+                CategoryHttpCaching.etag(output.id(), output.version()),
+                ResponseEntity.ok().lastModified(output.updatedAt()),
+                acceptEncoding
+        );
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories(
+            final String format,
+            final String updatedSince,
+            final HttpServletRequest request
+    ) {
+        final var exportFormat = CategoryExportFormat.of(format);
+        final var since = updatedSince != null ? instant("updatedSince", updatedSince) : null;
+
+        // each export holds a streaming thread and a connection for its whole run, so only a few may
+        // run at once and the rest of the pool stays free for bulk requests
+        if (!this.exports.tryAcquire()) {
+            throw CategoryExportBusyException.with(this.exportMaximumConcurrent);
+        }
+        final var released = new AtomicBoolean();
+        final Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                this.exports.release();
+            }
+        };
+        streaming(request, this.exportTimeout, release);
+
+        // rows go from the database cursor to the response one at a time, nothing is collected
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .body(out -> {
+                    try (final var writer = exportFormat.open(out)) {
+                        this.exportCategoriesUseCase.execute(ExportCategoriesCommand.with(since, output -> {
+                            try {
+                                writer.write(CategoryApiPresenter.present(output));
+                            } catch (final IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                        }));
+                    } catch (final UncheckedIOException ex) {
+                        throw ex.getCause();
+                    } finally {
+                        release.run();
+                    }
+                });
     }
 
     @Override
-    public CategoryResponse getById(String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public CategoriesByIdsResponse getByIds(final List<String> ids) {
+        return CategoryApiPresenter.present(this.getCategoriesByIdsUseCase.execute(ids));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input, final String ifMatch) {
         final var command = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                this.httpCaching.expectedVersion(
+                        id,
+                        ifMatch,
+                        () -> this.getCategoryVersionUseCase.execute(id).version()
+                )
         );
 
         final Function<Notification, ResponseEntity<?>> onError = ResponseEntity.unprocessableEntity()::body;
@@ -101,4 +317,97 @@ public class CategoryController implements CategoryAPI {
     public void deleteById(final String id) {
         this.deleteCategoryUseCase.execute(id);
     }
+
+    private void bulk(final JsonParser parser, final JsonGenerator generator) throws IOException {
+        final var chunk = new ArrayList<BulkCategoriesCommand.Operation>(this.bulkChunkSize);
+        final var ids = new HashSet<String>();
+        var offset = 0;
+        try {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                final var operation = operation(parser.readValueAs(BulkCategoryRequest.class));
+                // a chunk writes its groups out of order, so a repeated id starts the next chunk
+                if (chunk.size() == this.bulkChunkSize || (operation.id() != null && ids.contains(operation.id()))) {
+                    offset = bulk(chunk, offset, generator);
+                    ids.clear();
+                }
+                chunk.add(operation);
+                if (operation.id() != null) {
+                    ids.add(operation.id());
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "each operation should be an object");
+            }
+            bulk(chunk, offset, generator);
+        } catch (final JsonProcessingException ex) {
+            // the status is already sent: what was read is still applied and the rest is reported as one item
+            offset = bulk(chunk, offset, generator);
+            generator.writeObject(new BulkCategoryResponse(
+                    offset,
+                    null,
+                    null,
+                    HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                    List.of(new Error("malformed operation: " + ex.getOriginalMessage()))
+            ));
+        }
+    }
+
+    private int bulk(
+            final List<BulkCategoriesCommand.Operation> chunk,
+            final int offset,
+            final JsonGenerator generator
+    ) throws IOException {
+        if (chunk.isEmpty()) {
+            return offset;
+        }
+        final var output = this.bulkCategoriesUseCase.execute(BulkCategoriesCommand.with(List.copyOf(chunk)));
+        for (final var item : output.items()) {
+            generator.writeObject(CategoryApiPresenter.present(offset, item));
+        }
+        generator.flush();
+        chunk.clear();
+        return offset + output.items().size();
+    }
+
+    // the streamed body gets this endpoint's timeout instead of the default one. onCompletion runs once
+    // the async request ends however it ends: finished, timed out, failed or rejected by the executor
+    private static void streaming(final HttpServletRequest request, final Duration timeout, final Runnable onCompletion) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(STREAMING, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(final NativeWebRequest webRequest, final Callable<T> task) {
+                if (webRequest instanceof AsyncWebRequest asyncWebRequest) {
+                    asyncWebRequest.setTimeout(timeout.toMillis());
+                }
+            }
+
+            @Override
+            public <T> void afterCompletion(final NativeWebRequest webRequest, final Callable<T> task) {
+                onCompletion.run();
+            }
+        });
+    }
+
+    private static BulkCategoriesCommand.Operation operation(final BulkCategoryRequest input) {
+        return new BulkCategoriesCommand.Operation(
+                input.op(),
+                input.id(),
+                input.name(),
+                input.description(),
+                input.active() != null ? input.active() : true
+        );
+    }
+
+    private static Instant instant(final String parameter, final String value) {
+        try {
+            return Instant.parse(value);
+        } catch (final DateTimeParseException ex) {
+            throw DomainException.with(new Error("'%s' should be an ISO-8601 instant".formatted(parameter)));
+        }
+    }
+
+    private record CategoryKey(CategoryId id, long version) {
+    }
+
+    private record PageKey(long version, CategorySearchQuery query) {
+    }
 }
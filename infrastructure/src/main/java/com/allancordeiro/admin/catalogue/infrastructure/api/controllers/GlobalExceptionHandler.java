@@ -2,8 +2,13 @@ package com.allancordeiro.admin.catalogue.infrastructure.api.controllers;
 
 import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
 import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
 import com.allancordeiro.admin.catalogue.domain.validation.Error;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryExportBusyException;
+import com.allancordeiro.admin.catalogue.infrastructure.idempotency.IdempotencyKeyInProgressException;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -17,6 +22,29 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = StaleVersionException.class)
+    public ResponseEntity<?> handleStaleVersionException(final StaleVersionException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = IdempotencyKeyInProgressException.class)
+    public ResponseEntity<?> handleIdempotencyKeyInProgressException(final IdempotencyKeyInProgressException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+    }
+
+    @ExceptionHandler(value = CategoryExportBusyException.class)
+    public ResponseEntity<?> handleCategoryExportBusyException(final CategoryExportBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ApiError.from(ex));
+    }
+
+    // the streaming executor's queue is full
+    @ExceptionHandler(value = TaskRejectedException.class)
+    public ResponseEntity<?> handleTaskRejectedException(final TaskRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new ApiError("Too many streamed requests are running, retry later", List.of()));
+    }
+
     @ExceptionHandler(value = DomainException.class)
     public ResponseEntity<?> handleDomainException(final DomainException ex) {
         return ResponseEntity.unprocessableEntity().body(ApiError.from(ex));
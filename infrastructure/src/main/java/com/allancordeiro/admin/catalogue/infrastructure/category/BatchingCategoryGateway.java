@@ -0,0 +1,202 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
+import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// the first findById of a batch becomes its leader: it waits up to the window (or until the
+// batch is full), then loads every queued id with one findAllByIds and hands each caller its row
+public class BatchingCategoryGateway implements CategoryGateway {
+    private final CategoryGateway delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition full = this.lock.newCondition();
+    private final LongAdder batches = new LongAdder();
+    private List<Request> pending = new ArrayList<>();
+
+    public BatchingCategoryGateway(
+            final CategoryGateway delegate,
+            final Duration window,
+            final int maxBatchSize
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.windowNanos = Objects.requireNonNull(window).toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.delegate.create(category);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryId> ids) {
+        this.delegate.deleteAllByIds(ids);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        final var request = new Request(id, new CompletableFuture<>());
+        final List<Request> batch;
+
+        this.lock.lock();
+        try {
+            // a full batch whose leader has not woken up yet is closed; this request leads a new one
+            if (this.pending.size() >= this.maxBatchSize) {
+                this.pending = new ArrayList<>();
+            }
+            this.pending.add(request);
+            final var leader = this.pending.size() == 1;
+            if (!leader) {
+                if (this.pending.size() >= this.maxBatchSize) {
+                    this.full.signalAll();
+                }
+                batch = null;
+            } else {
+                batch = collect();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (batch != null) {
+            dispatch(batch);
+        }
+        return await(request.result());
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryId id) {
+        return this.delegate.findVersionById(id);
+    }
+
+    @Override
+    public CategoryCatalogueVersion findCatalogueVersion() {
+        return this.delegate.findCatalogueVersion();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryId> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return this.delegate.updateAll(categories);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategorySearchQuery query) {
+        return this.delegate.findAllByCursor(query);
+    }
+
+    @Override
+    public void forEach(final Instant updatedSince, final Consumer<Category> action) {
+        this.delegate.forEach(updatedSince, action);
+    }
+
+    public long batches() {
+        return this.batches.sum();
+    }
+
+    // called by the leader with the lock held; an interrupt cuts the window short but the
+    // batch is still dispatched, otherwise the callers already queued would wait forever. several
+    // leaders may wait at once, so each one checks its own batch and only resets pending if it
+    // is still the open one
+    private List<Request> collect() {
+        final var batch = this.pending;
+        var remaining = this.windowNanos;
+        while (batch.size() < this.maxBatchSize && remaining > 0) {
+            try {
+                remaining = this.full.awaitNanos(remaining);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (this.pending == batch) {
+            this.pending = new ArrayList<>();
+        }
+        return batch;
+    }
+
+    private void dispatch(final List<Request> batch) {
+        this.batches.increment();
+        try {
+            final var found = this.delegate.findAllByIds(batch.stream().map(Request::id).toList()).stream()
+                    .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+            // an id queued twice in the same batch gets a clone, since aggregates are mutable
+            final var handedOut = new HashSet<CategoryId>();
+            batch.forEach(request -> request.result().complete(
+                    Optional.ofNullable(found.get(request.id()))
+                            .map(it -> handedOut.add(it.getId()) ? it : it.clone())
+            ));
+        } catch (final RuntimeException | Error ex) {
+            batch.forEach(request -> request.result().completeExceptionally(ex));
+        }
+    }
+
+    private static Optional<Category> await(final CompletableFuture<Optional<Category>> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record Request(CategoryId id, CompletableFuture<Optional<Category>> result) {
+    }
+}
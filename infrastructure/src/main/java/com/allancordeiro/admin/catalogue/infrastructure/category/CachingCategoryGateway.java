@@ -0,0 +1,286 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
+import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// categories are mutable aggregates, so callers always get a clone of the cached instance.
+// the on-heap tier is bounded by an estimate of each aggregate's retained bytes; when an
+// off-heap tier is configured, loads are written through to it and hot-tier misses read it
+// before going to the delegate. every write bumps the version before it invalidates, and a bulk load
+// only caches its rows if the version did not move while it read them. list results are keyed by the catalogue version, which every write bumps, so a write
+// makes all cached pages unreachable at once and the weight bound evicts them later. a page weighs the sum of
+// its categories, so a few large perPage results cannot outgrow the bound the way a count of pages would
+public class CachingCategoryGateway implements CategoryGateway {
+    private final CategoryGateway delegate;
+    private final Cache<CategoryId, Category> cache;
+    private final OffHeapCategoryStore offHeap;
+    private final Cache<VersionedQuery, Pagination<Category>> listCache;
+    private final AtomicLong version = new AtomicLong();
+
+    public CachingCategoryGateway(
+            final CategoryGateway delegate,
+            final long maximumBytes,
+            final long offHeapBytes,
+            final long listMaximumBytes,
+            final Duration expireAfterWrite
+    ) {
+        this(delegate, maximumBytes, offHeapBytes, listMaximumBytes, expireAfterWrite, Ticker.systemTicker());
+    }
+
+    public CachingCategoryGateway(
+            final CategoryGateway delegate,
+            final long maximumBytes,
+            final long offHeapBytes,
+            final long listMaximumBytes,
+            final Duration expireAfterWrite,
+            final Ticker ticker
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher(CachingCategoryGateway::weigh)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.listCache = Caffeine.newBuilder()
+                .maximumWeight(listMaximumBytes)
+                .weigher(CachingCategoryGateway::weighPage)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.offHeap = offHeapBytes > 0
+                ? new OffHeapCategoryStore(offHeapBytes, expireAfterWrite, ticker)
+                : null;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return this.delegate.create(category);
+        } finally {
+            this.version.incrementAndGet();
+            invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return this.delegate.createAll(categories);
+        } finally {
+            this.version.incrementAndGet();
+            categories.forEach(category -> invalidate(category.getId()));
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        try {
+            this.delegate.deleteById(id);
+        } finally {
+            this.version.incrementAndGet();
+            invalidate(id);
+        }
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryId> ids) {
+        try {
+            this.delegate.deleteAllByIds(ids);
+        } finally {
+            this.version.incrementAndGet();
+            ids.forEach(this::invalidate);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return Optional.ofNullable(this.cache.get(id, this::load))
+                .map(Category::clone);
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryId id) {
+        final var cached = this.cache.getIfPresent(id);
+        return cached != null
+                ? Optional.of(new CategoryVersion(cached.getVersion(), cached.getUpdatedAt()))
+                : this.delegate.findVersionById(id);
+    }
+
+    // never cached: it has to see writes made through other instances
+    @Override
+    public CategoryCatalogueVersion findCatalogueVersion() {
+        return this.delegate.findCatalogueVersion();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryId> ids) {
+        final var unique = new LinkedHashSet<CategoryId>(ids);
+        final var found = new HashMap<>(this.cache.getAllPresent(unique));
+        final var missing = new ArrayList<CategoryId>();
+        unique.forEach(id -> {
+            if (!found.containsKey(id)) {
+                final var stored = loadOffHeap(id);
+                if (stored != null) {
+                    found.put(id, stored);
+                } else {
+                    missing.add(id);
+                }
+            }
+        });
+
+        // caffeine's bulk load does not lock its keys, so each row is cached on its own under the
+        // id's lock, and only if no write happened since the rows were read
+        if (!missing.isEmpty()) {
+            final var before = this.version.get();
+            this.delegate.findAllByIds(missing).forEach(category -> {
+                found.put(category.getId(), category);
+                this.cache.asMap().compute(category.getId(), (id, cached) -> cached != null
+                        ? cached
+                        : this.version.get() == before ? writeThrough(category) : null);
+            });
+        }
+
+        return unique.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(Category::clone)
+                .toList();
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return this.delegate.update(category);
+        } finally {
+            this.version.incrementAndGet();
+            invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        try {
+            return this.delegate.updateAll(categories);
+        } finally {
+            this.version.incrementAndGet();
+            categories.forEach(category -> invalidate(category.getId()));
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var key = new VersionedQuery(this.version.get(), query);
+        return this.listCache.get(key, it -> this.delegate.findAll(it.query()))
+                .map(Category::clone);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategorySearchQuery query) {
+        return this.delegate.findAllByCursor(query);
+    }
+
+    // rows pass straight through so an export neither fills nor evicts the cache
+    @Override
+    public void forEach(final Instant updatedSince, final Consumer<Category> action) {
+        this.delegate.forEach(updatedSince, action);
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    public CacheStats listStats() {
+        return this.listCache.stats();
+    }
+
+    public Optional<OffHeapCategoryStore> offHeap() {
+        return Optional.ofNullable(this.offHeap);
+    }
+
+    // runs pending evictions now instead of on the cache's maintenance executor
+    void cleanUp() {
+        this.cache.cleanUp();
+        this.listCache.cleanUp();
+    }
+
+    private Category load(final CategoryId id) {
+        if (this.offHeap != null) {
+            final var stored = this.offHeap.get(id);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
+        }
+        return this.delegate.findById(id)
+                .map(this::writeThrough)
+                .orElse(null);
+    }
+
+    // promotes an off-heap row to the hot tier under the id's lock; null when it is not there
+    private Category loadOffHeap(final CategoryId id) {
+        if (this.offHeap == null) {
+            return null;
+        }
+        return this.cache.asMap().computeIfAbsent(id, it -> this.offHeap.get(it).orElse(null));
+    }
+
+    private Category writeThrough(final Category category) {
+        if (this.offHeap != null) {
+            this.offHeap.put(category);
+        }
+        return category;
+    }
+
+    // both tiers are cleared under the hot tier's lock for the id, the one a load of that id holds
+    // while it reads and writes through, so a load either finishes first and has its rows removed
+    // here, or starts after and reads the written row
+    private void invalidate(final CategoryId id) {
+        this.cache.asMap().compute(id, (key, cached) -> {
+            if (this.offHeap != null) {
+                this.offHeap.invalidate(key);
+            }
+            return null;
+        });
+    }
+
+    // rough retained size: object headers and fields plus the string contents
+    private static int weigh(final CategoryId id, final Category category) {
+        final var description = category.getDescription();
+        return 256 + 2 * (category.getName().length() + (description == null ? 0 : description.length()));
+    }
+
+    private static int weighPage(final VersionedQuery key, final Pagination<Category> page) {
+        var weight = 256L;
+        for (final var category : page.items()) {
+            weight += weigh(category.getId(), category);
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private record VersionedQuery(long version, CategorySearchQuery query) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryJpaEntity;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public record CategoryCursor(String sort, String direction, String id, String value) {
+    private static final Set<String> SORTABLE = Set.of("name", "createdAt", "updatedAt");
+    private static final String SEPARATOR = "\n";
+
+    public static CategoryCursor of(final String sort, final String direction, final CategoryJpaEntity last) {
+        final var value = switch (sort) {
+            case "name" -> last.getName();
+            case "createdAt" -> last.getCreatedAt().toString();
+            case "updatedAt" -> last.getUpdatedAt().toString();
+            default -> throw unsupported(sort);
+        };
+        return new CategoryCursor(sort, direction, last.getId().toString(), value);
+    }
+
+    public static CategoryCursor decode(final String cursor) {
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final var parts = decoded.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw invalid();
+            }
+            final var actual = new CategoryCursor(parts[0], parts[1], parts[2], parts[3]);
+            requireSortable(actual.sort());
+            Sort.Direction.fromString(actual.direction());
+            actual.keys();
+            return actual;
+        } catch (final IllegalArgumentException | DateTimeParseException ex) {
+            throw invalid();
+        }
+    }
+
+    public static void requireSortable(final String sort) {
+        if (!SORTABLE.contains(sort)) {
+            throw unsupported(sort);
+        }
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, sort, direction, id, value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public List<Comparable<?>> keys() {
+        final Comparable<?> key = "name".equals(sort) ? value : Instant.parse(value);
+        return List.of(key, UUID.fromString(id));
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+
+    private static DomainException unsupported(final String sort) {
+        return DomainException.with(new Error("'sort' %s is not supported with cursor pagination".formatted(sort)));
+    }
+}
@@ -0,0 +1,17 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+
+import java.util.Collections;
+
+public class CategoryExportBusyException extends DomainException {
+    private CategoryExportBusyException(final String message) {
+        super(message, Collections.emptyList());
+    }
+
+    public static CategoryExportBusyException with(final int running) {
+        return new CategoryExportBusyException(
+                "%d category exports are already running, retry later".formatted(running)
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+import com.allancordeiro.admin.catalogue.infrastructure.category.models.CategoryResponse;
+import com.allancordeiro.admin.catalogue.infrastructure.configuration.json.Json;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// the formats of GET /categories/export; a row is encoded as soon as it is written and only a small
+// buffer sits between it and the response
+public enum CategoryExportFormat {
+    NDJSON(new MediaType("application", "x-ndjson")) {
+        @Override
+        public RowWriter open(final OutputStream out) throws IOException {
+            // the mapper flushes after every value by default, which would cost a socket write per row
+            final var writer = Json.mapper()
+                    .writerFor(CategoryResponse.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            final var generator = Json.mapper().createGenerator(out);
+            generator.setRootValueSeparator(null);
+            return new RowWriter() {
+                @Override
+                public void write(final CategoryResponse row) throws IOException {
+                    writer.writeValue(generator, row);
+                    generator.writeRaw('\n');
+                }
+
+                @Override
+                public void close() throws IOException {
+                    generator.close();
+                }
+            };
+        }
+    },
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8)) {
+        private static final String HEADER = "id,name,description,is_active,created_at,updated_at,deleted_at";
+
+        @Override
+        public RowWriter open(final OutputStream out) throws IOException {
+            final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(HEADER);
+            writer.write("\r\n");
+            return new RowWriter() {
+                @Override
+                public void write(final CategoryResponse row) throws IOException {
+                    writer.write(Stream.of(
+                                    row.id(),
+                                    row.name(),
+                                    row.description(),
+                                    row.active(),
+                                    row.createdAt(),
+                                    row.updatedAt(),
+                                    row.deletedAt()
+                            )
+                            .map(CategoryExportFormat::field)
+                            .collect(Collectors.joining(",")));
+                    writer.write("\r\n");
+                }
+
+                @Override
+                public void close() throws IOException {
+                    writer.close();
+                }
+            };
+        }
+    };
+
+    private final MediaType mediaType;
+
+    CategoryExportFormat(final MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static CategoryExportFormat of(final String format) {
+        return switch (format) {
+            case "ndjson" -> NDJSON;
+            case "csv" -> CSV;
+            default -> throw DomainException.with(new Error("'format' %s is not supported".formatted(format)));
+        };
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public abstract RowWriter open(OutputStream out) throws IOException;
+
+    // RFC 4180: a field holding a separator, a quote or a line break is quoted, its quotes doubled
+    private static String field(final Object value) {
+        final var text = Objects.toString(value, "");
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    public interface RowWriter extends Closeable {
+        void write(CategoryResponse row) throws IOException;
+    }
+}
@@ -0,0 +1,172 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.CategoryCatalogueVersionOutput;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+// the http side of the category responses: etags, conditional requests and the choice between the
+// cached json and gzip bytes. the gzip bytes are another representation of the same version, so
+// they carry the same etag with a suffix and every conditional header accepts both forms
+@Component
+public class CategoryHttpCaching {
+    private static final String GZIP = "gzip";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final CategoryResponseCache responseCache;
+
+    public CategoryHttpCaching(final CategoryResponseCache responseCache) {
+        this.responseCache = Objects.requireNonNull(responseCache);
+    }
+
+    // strong etag: the version is bumped on every stored update
+    public static String etag(final CategoryId id, final long version) {
+        return "\"%s-%d\"".formatted(id.getValue(), version);
+    }
+
+    // strong etag for a list page, built from the catalogue version read from the database and the
+    // query, so it is known before the page is read. the in-process CategoryResponseCache.version() is
+    // not used: it only moves on writes made through this instance and starts from zero on restart, so
+    // two replicas could send the same etag for different pages and answer 304 with a stale copy
+    public static String etag(final CategoryCatalogueVersionOutput version, final CategorySearchQuery query) {
+        final var validator = "%d:%d:%s:%s".formatted(version.count(), version.versions(), version.updatedAt(), query);
+        return "\"list-%s\"".formatted(DigestUtils.md5DigestAsHex(validator.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static boolean isConditional(final HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    // a 304 when the client's copy, in either encoding, is still current; lastModified may be null
+    public Optional<ResponseEntity<?>> notModified(
+            final HttpServletRequest request,
+            final String etag,
+            final Instant lastModified
+    ) {
+        final var matching = matching(request, etag);
+        final var webRequest = new ServletWebRequest(request);
+        final var notModified = lastModified != null
+                ? webRequest.checkNotModified(matching, lastModified.toEpochMilli())
+                : webRequest.checkNotModified(matching);
+        if (!notModified) {
+            return Optional.empty();
+        }
+
+        final var response = ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matching);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return Optional.of(response.build());
+    }
+
+    public ResponseEntity<?> respond(
+            final CategoryResponseCache.Encoded encoded,
+            final String etag,
+            final ResponseEntity.BodyBuilder response,
+            final String acceptEncoding
+    ) {
+        response.contentType(MediaType.APPLICATION_JSON);
+        if (!this.responseCache.enabled()) {
+            return response.eTag(etag).body(encoded.json());
+        }
+        response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // a response that already carries Content-Encoding is left alone by server.compression
+        if (encoded.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return response.eTag(gzipped(etag))
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(encoded.gzip());
+        }
+        return response.eTag(etag).body(encoded.json());
+    }
+
+    // null when the update is unconditional; If-Match: * only requires the category to exist.
+    // current is only asked for when If-Match names more than one version of the category
+    public Long expectedVersion(final String id, final String ifMatch, final LongSupplier current) {
+        if (ifMatch == null || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+
+        final var versions = new HashSet<Long>();
+        for (final var tag : ifMatch.split(",")) {
+            version(id, tag.trim()).ifPresent(versions::add);
+        }
+        if (versions.size() == 1) {
+            return versions.iterator().next();
+        }
+        if (!versions.isEmpty()) {
+            final var version = current.getAsLong();
+            if (versions.contains(version)) {
+                return version;
+            }
+        }
+        throw StaleVersionException.with(Category.class, CategoryId.from(id));
+    }
+
+    private static String gzipped(final String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    // the form of the etag the client holds, so If-None-Match matches whichever encoding it cached
+    private static String matching(final HttpServletRequest request, final String etag) {
+        final var ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return etag;
+        }
+        final var gzipped = gzipped(etag);
+        for (final var tag : ifNoneMatch.split(",")) {
+            final var trimmed = tag.trim();
+            if (gzipped.equals(trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed)) {
+                return gzipped;
+            }
+        }
+        return etag;
+    }
+
+    // weak and foreign etags never match If-Match; the gzip form names the same version
+    private static Optional<Long> version(final String id, final String tag) {
+        final var prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() == prefix.length()) {
+            return Optional.empty();
+        }
+        final var value = tag.substring(prefix.length(), tag.length() - 1);
+        try {
+            return Optional.of(Long.parseLong(value.endsWith(GZIP_ETAG_SUFFIX)
+                    ? value.substring(0, value.length() - GZIP_ETAG_SUFFIX.length())
+                    : value));
+        } catch (final NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (final var coding : acceptEncoding.split(",")) {
+            final var parts = coding.trim().split(";");
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.application.category.update.SerializedUpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryUseCase;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// publishes the counters kept by whichever gateway decorators and update lock are enabled
+@Component
+public class CategoryMetrics implements MeterBinder {
+    private final ObjectProvider<GroupCommitCategoryGateway> grouped;
+    private final ObjectProvider<BatchingCategoryGateway> batched;
+    private final ObjectProvider<CoalescingCategoryGateway> coalesced;
+    private final ObjectProvider<ExistenceFilterCategoryGateway> filtered;
+    private final ObjectProvider<CachingCategoryGateway> cached;
+    private final ObjectProvider<UpdateCategoryUseCase> updateCategoryUseCase;
+
+    public CategoryMetrics(
+            final ObjectProvider<GroupCommitCategoryGateway> grouped,
+            final ObjectProvider<BatchingCategoryGateway> batched,
+            final ObjectProvider<CoalescingCategoryGateway> coalesced,
+            final ObjectProvider<ExistenceFilterCategoryGateway> filtered,
+            final ObjectProvider<CachingCategoryGateway> cached,
+            final ObjectProvider<UpdateCategoryUseCase> updateCategoryUseCase
+    ) {
+        this.grouped = grouped;
+        this.batched = batched;
+        this.coalesced = coalesced;
+        this.filtered = filtered;
+        this.cached = cached;
+        this.updateCategoryUseCase = updateCategoryUseCase;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        this.grouped.ifAvailable(gateway -> {
+            FunctionCounter.builder("category.group-commit.commits", gateway, GroupCommitCategoryGateway::commits)
+                    .register(registry);
+            FunctionCounter.builder("category.group-commit.fallbacks", gateway, GroupCommitCategoryGateway::fallbacks)
+                    .register(registry);
+        });
+
+        this.batched.ifAvailable(gateway ->
+                FunctionCounter.builder("category.batching.batches", gateway, BatchingCategoryGateway::batches)
+                        .register(registry)
+        );
+
+        this.coalesced.ifAvailable(gateway ->
+                FunctionCounter.builder("category.coalescing.collapsed", gateway, CoalescingCategoryGateway::collapsed)
+                        .register(registry)
+        );
+
+        this.filtered.ifAvailable(gateway -> {
+            FunctionCounter.builder("category.existence-filter.short-circuited", gateway, ExistenceFilterCategoryGateway::shortCircuited)
+                    .register(registry);
+            Gauge.builder("category.existence-filter.false-positive-rate", gateway, ExistenceFilterCategoryGateway::falsePositiveRate)
+                    .register(registry);
+            Gauge.builder("category.existence-filter.expected-false-positive-rate", gateway, ExistenceFilterCategoryGateway::expectedFalsePositiveRate)
+                    .register(registry);
+            TimeGauge.builder("category.existence-filter.last-rebuild", gateway, TimeUnit.MILLISECONDS, it -> it.lastRebuildDuration().toMillis())
+                    .register(registry);
+        });
+
+        this.cached.ifAvailable(gateway -> {
+            bindCache(registry, "hot", gateway, CachingCategoryGateway::stats);
+            bindCache(registry, "list", gateway, CachingCategoryGateway::listStats);
+            gateway.offHeap().ifPresent(store -> {
+                FunctionCounter.builder("category.cache.gets", store, OffHeapCategoryStore::hitCount)
+                        .tags("tier", "off-heap", "result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("category.cache.gets", store, OffHeapCategoryStore::missCount)
+                        .tags("tier", "off-heap", "result", "miss")
+                        .register(registry);
+                FunctionCounter.builder("category.cache.evictions", store, OffHeapCategoryStore::evictionCount)
+                        .tags("tier", "off-heap")
+                        .register(registry);
+            });
+        });
+
+        this.updateCategoryUseCase.ifAvailable(useCase -> {
+            if (useCase instanceof SerializedUpdateCategoryUseCase serialized) {
+                FunctionCounter.builder("category.update-lock.contended", serialized, SerializedUpdateCategoryUseCase::contended)
+                        .register(registry);
+            }
+        });
+    }
+
+    // meters hold their object weakly, so they are bound to the gateway rather than to a lambda over it
+    private static void bindCache(
+            final MeterRegistry registry,
+            final String tier,
+            final CachingCategoryGateway gateway,
+            final Function<CachingCategoryGateway, CacheStats> stats
+    ) {
+        FunctionCounter.builder("category.cache.gets", gateway, it -> stats.apply(it).hitCount())
+                .tags("tier", tier, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("category.cache.gets", gateway, it -> stats.apply(it).missCount())
+                .tags("tier", tier, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("category.cache.evictions", gateway, it -> stats.apply(it).evictionCount())
+                .tags("tier", tier)
+                .register(registry);
+    }
+}
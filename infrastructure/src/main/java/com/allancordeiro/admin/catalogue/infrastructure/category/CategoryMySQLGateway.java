@@ -1,68 +1,192 @@
 package com.allancordeiro.admin.catalogue.infrastructure.category;
 
 import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryField;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
 import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
 import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
 import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryJpaEntity;
 import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
+import com.allancordeiro.admin.catalogue.infrastructure.utils.NormalizationUtils;
 import com.allancordeiro.admin.catalogue.infrastructure.utils.SpecificationUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import javax.persistence.criteria.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
+    private static final String CONTAINS = "contains";
+    private static final String FULL_TEXT = "fulltext";
+    private static final String PREFIX = "prefix";
+    private static final String RELEVANCE = "relevance";
+    private static final String ACTIVE = "active";
+
     private final CategoryRepository repository;
+    private final int batchSize;
+    private final int exportFetchSize;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    // Integer.MIN_VALUE is how MySQL Connector/J is told to stream a result set row by row instead of
+    // buffering it whole
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            @Value("${category.persistence.batch-size:500}") final int batchSize,
+            @Value("${category.export.fetch-size:" + Integer.MIN_VALUE + "}") final int exportFetchSize
+    ) {
         this.repository = repository;
+        this.batchSize = batchSize;
+        this.exportFetchSize = exportFetchSize;
     }
 
     @Override
     public Category create(final Category category) {
-        return this.save(category);
+        this.repository.insert(CategoryJpaEntity.from(category));
+        return category;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var entities = categories.stream().map(CategoryJpaEntity::from).toList();
+        return this.repository.insertAll(entities, this.batchSize).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
     }
 
     @Override
     public void deleteById(final CategoryId id) {
-        String idValue = id.getValue();
-        if(this.repository.existsById(idValue)) {
-            this.repository.deleteById(idValue);
+        id.toUUID().ifPresent(this.repository::removeById);
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryId> ids) {
+        final var uuids = ids.stream()
+                .map(CategoryId::toUUID)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+        if (!uuids.isEmpty()) {
+            this.repository.removeAllByIds(uuids);
         }
     }
 
     @Override
     public Optional<Category> findById(final CategoryId id) {
-        return this.repository.findById(id.getValue())
+        return id.toUUID()
+                .flatMap(this.repository::findById)
                 .map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryId id) {
+        return id.toUUID().flatMap(this.repository::findVersionById);
+    }
+
+    @Override
+    public CategoryCatalogueVersion findCatalogueVersion() {
+        return this.repository.findCatalogueVersion();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryId> ids) {
+        final var uuids = ids.stream()
+                .map(CategoryId::toUUID)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+        if (uuids.isEmpty()) {
+            return List.of();
+        }
+
+        return this.repository.findAllById(uuids).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
     public Category update(final Category category) {
-        return this.save(category);
+        final var entity = CategoryJpaEntity.from(category);
+        final var changes = category.hasChanges()
+                ? category.getChanges()
+                : EnumSet.allOf(CategoryField.class);
+
+        final var values = new HashMap<String, Object>();
+        changes.forEach(field -> {
+            switch (field) {
+                case NAME -> {
+                    values.put("name", entity.getName());
+                    values.put("normalizedName", entity.getNormalizedName());
+                }
+                case DESCRIPTION -> values.put("description", entity.getDescription());
+                case ACTIVE -> values.put("active", entity.isActive());
+                case UPDATED_AT -> values.put("updatedAt", entity.getUpdatedAt());
+                case DELETED_AT -> values.put("deletedAt", entity.getDeletedAt());
+            }
+        });
+
+        if (this.repository.update(entity.getId(), category.getVersion(), values) == 0) {
+            if (this.repository.existsById(entity.getId())) {
+                throw StaleVersionException.with(Category.class, category.getId());
+            }
+            throw NotFoundException.with(Category.class, category.getId());
+        }
+        entity.setVersion(category.getVersion() + 1);
+        return entity.toAggregate();
+    }
+
+    // rows left out of the result were modified or deleted since they were read
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+        final var entities = categories.stream().map(CategoryJpaEntity::from).toList();
+        final var counts = this.repository.updateAll(entities, this.batchSize);
+
+        final var updated = new ArrayList<Category>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            if (counts[i] != 0) {
+                final var entity = entities.get(i);
+                entity.setVersion(entity.getVersion() + 1);
+                updated.add(entity.toAggregate());
+            }
+        }
+        return updated;
     }
 
     @Override
     public Pagination<Category> findAll(final CategorySearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
-        final var specifications = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> SpecificationUtils
-                        .<CategoryJpaEntity>like("name", str)
-                        .or(SpecificationUtils.like("description", str))
-                )
-                .orElse(null);
+        final var direction = Sort.Direction.fromString(query.direction());
+        final var sort = switch (query.sort()) {
+            case RELEVANCE -> Sort.unsorted();
+            case ACTIVE -> Sort.by(direction, ACTIVE, "name", "id");
+            default -> Sort.by(direction, query.sort(), "id");
+        };
+        final var page = PageRequest.of(query.page(), query.perPage(), sort);
+        final var specifications = search(query);
+
+        if (!query.withTotal()) {
+            return slice(Specification.where(specifications), page);
+        }
 
         final var pageResult = this.repository.findAll(Specification.where(specifications), page);
 
@@ -74,7 +198,94 @@ public class CategoryMySQLGateway implements CategoryGateway {
         );
     }
 
-    private Category save(final Category category) {
-        return this.repository.save(CategoryJpaEntity.from(category)).toAggregate();
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategorySearchQuery query) {
+        final var cursor = Optional.ofNullable(query.cursor())
+                .filter(str -> !str.isBlank())
+                .map(CategoryCursor::decode);
+        final var sort = cursor.map(CategoryCursor::sort).orElse(query.sort());
+        final var direction = Sort.Direction.fromString(
+                cursor.map(CategoryCursor::direction).orElse(query.direction())
+        );
+        CategoryCursor.requireSortable(sort);
+
+        final var seek = cursor
+                .map(it -> SpecificationUtils.<CategoryJpaEntity>after(
+                        List.of(sort, "id"),
+                        it.keys(),
+                        direction.isAscending()
+                ))
+                .orElse(null);
+
+        final var rows = this.repository.findAll(
+                Specification.where(search(query)).and(seek),
+                Sort.by(direction, sort, "id"),
+                0,
+                query.perPage() + 1
+        );
+
+        final var hasNext = rows.size() > query.perPage();
+        final var items = hasNext ? rows.subList(0, query.perPage()) : rows;
+        final var nextCursor = hasNext
+                ? CategoryCursor.of(sort, direction.name(), items.get(items.size() - 1)).encode()
+                : null;
+
+        return new CursorPagination<>(
+                query.perPage(),
+                nextCursor,
+                items.stream().map(CategoryJpaEntity::toAggregate).toList()
+        );
+    }
+
+    @Override
+    public void forEach(final Instant updatedSince, final Consumer<Category> action) {
+        this.repository.forEach(updatedSince, this.exportFetchSize, entity -> action.accept(entity.toAggregate()));
+    }
+
+    private Pagination<Category> slice(final Specification<CategoryJpaEntity> where, final PageRequest page) {
+        final var rows = this.repository.findAll(
+                where,
+                page.getSort(),
+                (int) page.getOffset(),
+                page.getPageSize() + 1
+        );
+
+        final var hasNext = rows.size() > page.getPageSize();
+        final var items = hasNext ? rows.subList(0, page.getPageSize()) : rows;
+
+        return Pagination.slice(
+                page.getPageNumber(),
+                page.getPageSize(),
+                items.stream().map(CategoryJpaEntity::toAggregate).toList(),
+                hasNext
+        );
+    }
+
+    private Specification<CategoryJpaEntity> search(final CategorySearchQuery query) {
+        final var terms = Optional.ofNullable(query.terms()).filter(str -> !str.isBlank());
+        final var mode = Optional.ofNullable(query.mode()).orElse(CONTAINS);
+
+        if (RELEVANCE.equals(query.sort()) && (!FULL_TEXT.equals(mode) || terms.isEmpty())) {
+            throw DomainException.with(new Error("'sort' relevance requires a search term with 'mode' fulltext"));
+        }
+
+        return terms
+                .map(str -> switch (mode) {
+                    case CONTAINS -> SpecificationUtils
+                            .<CategoryJpaEntity>like("name", str)
+                            .or(SpecificationUtils.like("description", str));
+                    case FULL_TEXT -> fullText(str, RELEVANCE.equals(query.sort()));
+                    case PREFIX -> SpecificationUtils
+                            .<CategoryJpaEntity>startsWith("normalizedName", NormalizationUtils.normalize(str));
+                    default -> throw DomainException.with(new Error("'mode' %s is not supported".formatted(mode)));
+                })
+                .orElse(null);
+    }
+
+    private Specification<CategoryJpaEntity> fullText(final String terms, final boolean byRelevance) {
+        final var match = SpecificationUtils.<CategoryJpaEntity>match("name", "description", terms);
+        return byRelevance
+                ? match.and(SpecificationUtils.orderByRelevance("name", "description", terms, "id"))
+                : match;
     }
 }
@@ -0,0 +1,90 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.infrastructure.configuration.json.Json;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// final response bytes, serialized once and gzipped once. keys must carry a version: single
+// categories are keyed by their id and version, list pages by version(), which every write bumps.
+// when disabled bodies are still encoded through here, only nothing is kept
+@Component
+public class CategoryResponseCache {
+    private final boolean enabled;
+    private final int minimumGzipSize;
+    private final Cache<Object, Encoded> cache;
+    private final AtomicLong version = new AtomicLong();
+
+    public CategoryResponseCache(
+            @Value("${category.response-cache.enabled:false}") final boolean enabled,
+            @Value("${category.response-cache.maximum-bytes:32MB}") final DataSize maximumBytes,
+            @Value("${category.response-cache.expire-after-write:10m}") final Duration expireAfterWrite,
+            @Value("${server.compression.min-response-size:2KB}") final DataSize minimumGzipSize
+    ) {
+        this.enabled = enabled;
+        this.minimumGzipSize = (int) minimumGzipSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes.toBytes())
+                .weigher((Object key, Encoded value) -> value.weight())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    public long version() {
+        return this.version.get();
+    }
+
+    public Encoded get(final Object key, final Supplier<?> body) {
+        if (!this.enabled) {
+            return encode(body.get());
+        }
+        return this.cache.get(key, it -> encode(body.get()));
+    }
+
+    public void invalidate() {
+        this.version.incrementAndGet();
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    private Encoded encode(final Object body) {
+        final var json = Json.writeValueAsBytes(body);
+        final var gzip = this.enabled && json.length >= this.minimumGzipSize ? gzip(json) : null;
+        return new Encoded(json, gzip);
+    }
+
+    private static byte[] gzip(final byte[] bytes) {
+        final var out = new ByteArrayOutputStream(bytes.length / 4);
+        try (final var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    // gzip is null when the body is below the server's compression threshold or the cache is off
+    public record Encoded(byte[] json, byte[] gzip) {
+        private int weight() {
+            return 128 + this.json.length + (this.gzip == null ? 0 : this.gzip.length);
+        }
+    }
+}
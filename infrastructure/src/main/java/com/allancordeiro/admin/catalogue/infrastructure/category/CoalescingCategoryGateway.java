@@ -0,0 +1,172 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
+import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+// concurrent identical reads share one delegate call; followers get clones since aggregates are mutable.
+// the key carries the number of writes finished when the read started, so a read issued after a
+// write (e.g. a cache reload right after an invalidation) never joins a query that may predate it
+public class CoalescingCategoryGateway implements CategoryGateway {
+    private final CategoryGateway delegate;
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder collapsed = new LongAdder();
+    private final AtomicLong writes = new AtomicLong();
+
+    public CoalescingCategoryGateway(final CategoryGateway delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return write(() -> this.delegate.create(category));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return write(() -> this.delegate.createAll(categories));
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        write(() -> {
+            this.delegate.deleteById(id);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryId> ids) {
+        write(() -> {
+            this.delegate.deleteAllByIds(ids);
+            return null;
+        });
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return coalesce(
+                new Key("findById", id, this.writes.get()),
+                () -> this.delegate.findById(id),
+                it -> it.map(Category::clone)
+        );
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryId id) {
+        return this.delegate.findVersionById(id);
+    }
+
+    @Override
+    public CategoryCatalogueVersion findCatalogueVersion() {
+        return this.delegate.findCatalogueVersion();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryId> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return write(() -> this.delegate.update(category));
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return write(() -> this.delegate.updateAll(categories));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return coalesce(
+                new Key("findAll", query, this.writes.get()),
+                () -> this.delegate.findAll(query),
+                it -> it.map(Category::clone)
+        );
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategorySearchQuery query) {
+        return coalesce(
+                new Key("findAllByCursor", query, this.writes.get()),
+                () -> this.delegate.findAllByCursor(query),
+                it -> it.map(Category::clone)
+        );
+    }
+
+    @Override
+    public void forEach(final Instant updatedSince, final Consumer<Category> action) {
+        this.delegate.forEach(updatedSince, action);
+    }
+
+    public long collapsed() {
+        return this.collapsed.sum();
+    }
+
+    // counted once the write is done (or failed), so reads racing with it keep the old key
+    private <T> T write(final Supplier<T> call) {
+        try {
+            return call.get();
+        } finally {
+            this.writes.incrementAndGet();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(final Key key, final Supplier<T> call, final UnaryOperator<T> copy) {
+        final var leader = new CompletableFuture<Object>();
+        final var existing = this.inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            this.collapsed.increment();
+            return copy.apply((T) await(existing));
+        }
+
+        try {
+            final var result = call.get();
+            leader.complete(result);
+            return result;
+        } catch (final RuntimeException | Error ex) {
+            leader.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.inFlight.remove(key, leader);
+        }
+    }
+
+    private static Object await(final CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record Key(String operation, Object argument, long writes) {
+    }
+}
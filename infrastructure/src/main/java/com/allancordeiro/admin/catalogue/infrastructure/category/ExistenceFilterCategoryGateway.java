@@ -0,0 +1,274 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
+import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
+import com.allancordeiro.admin.catalogue.infrastructure.utils.BloomFilter;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// answers findById/deleteById for ids that were never stored without touching MySQL. the filter
+// is rebuilt from a scan of every id, and ids written through this instance are added as they
+// are created. a row written any other way (another instance, a script) is not in the filter until
+// the next rebuild, so a UUIDv7 id is only answered from it when it was minted before the scan
+// started, less a clock skew margin. every stored id is a UUIDv7, so any other id the scan did not
+// see can only be a miss and is always answered from the filter
+public class ExistenceFilterCategoryGateway implements CategoryGateway, AutoCloseable {
+    private static final int SCAN_PAGE_SIZE = 10_000;
+    private static final long MINIMUM_EXPECTED_IDS = 1_024;
+    private static final UUID SCAN_START = new UUID(0, 0);
+    private static final int UUID_VERSION_7 = 7;
+    static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final CategoryGateway delegate;
+    private final CategoryRepository repository;
+    private final double falsePositiveProbability;
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    // null until the first rebuild finishes; lookups pass through meanwhile
+    private volatile Snapshot current;
+    // the filter being rebuilt, so ids created during the scan are not lost
+    private volatile BloomFilter building;
+    private volatile Duration lastRebuildDuration = Duration.ZERO;
+    private final ScheduledExecutorService scheduler;
+
+    public ExistenceFilterCategoryGateway(
+            final CategoryGateway delegate,
+            final CategoryRepository repository,
+            final double falsePositiveProbability,
+            final Duration rebuildInterval
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.repository = Objects.requireNonNull(repository);
+        this.falsePositiveProbability = falsePositiveProbability;
+
+        if (rebuildInterval.isZero()) {
+            this.scheduler = null;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "category-existence-filter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(
+                    this::tryRebuild,
+                    0,
+                    rebuildInterval.toMillis(),
+                    TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        remember(category.getId());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = this.delegate.createAll(categories);
+        categories.forEach(category -> remember(category.getId()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        if (definitelyAbsent(id)) {
+            return;
+        }
+        // a covered id the filter let through is checked by its version first, so a false positive
+        // is counted here too and costs a primary key read instead of a DELETE
+        if (covered(id) && this.delegate.findVersionById(id).isEmpty()) {
+            this.falsePositives.increment();
+            return;
+        }
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryId> ids) {
+        final var present = ids.stream()
+                .filter(id -> !definitelyAbsent(id))
+                .toList();
+        if (present.isEmpty()) {
+            return;
+        }
+        this.delegate.deleteAllByIds(present);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        if (definitelyAbsent(id)) {
+            return Optional.empty();
+        }
+
+        final var category = this.delegate.findById(id);
+        if (category.isEmpty() && covered(id)) {
+            this.falsePositives.increment();
+        }
+        return category;
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryId id) {
+        return definitelyAbsent(id) ? Optional.empty() : this.delegate.findVersionById(id);
+    }
+
+    @Override
+    public CategoryCatalogueVersion findCatalogueVersion() {
+        return this.delegate.findCatalogueVersion();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryId> ids) {
+        final var candidates = ids.stream()
+                .filter(id -> !definitelyAbsent(id))
+                .toList();
+        return candidates.isEmpty() ? List.of() : this.delegate.findAllByIds(candidates);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return this.delegate.updateAll(categories);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategorySearchQuery query) {
+        return this.delegate.findAllByCursor(query);
+    }
+
+    @Override
+    public void forEach(final Instant updatedSince, final Consumer<Category> action) {
+        this.delegate.forEach(updatedSince, action);
+    }
+
+    public synchronized void rebuild() {
+        final var start = System.nanoTime();
+        // rows created from here on may be missed by the scan below
+        final var coveredBefore = System.currentTimeMillis() - CLOCK_SKEW.toMillis();
+        final var expected = Math.max(MINIMUM_EXPECTED_IDS, this.repository.count() * 3 / 2);
+        final var next = BloomFilter.create(expected, this.falsePositiveProbability);
+
+        this.building = next;
+        try {
+            var after = SCAN_START;
+            while (true) {
+                final var ids = this.repository.findIdsAfter(after, PageRequest.of(0, SCAN_PAGE_SIZE));
+                ids.forEach(next::put);
+                if (ids.size() < SCAN_PAGE_SIZE) {
+                    break;
+                }
+                after = ids.get(ids.size() - 1);
+            }
+            this.current = new Snapshot(next, coveredBefore);
+        } finally {
+            this.building = null;
+        }
+        this.lastRebuildDuration = Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    // share of lookups for absent ids that the filter let through to MySQL
+    public double falsePositiveRate() {
+        final var passed = this.falsePositives.sum();
+        final var total = passed + this.shortCircuited.sum();
+        return total == 0 ? 0 : (double) passed / total;
+    }
+
+    public double expectedFalsePositiveRate() {
+        final var snapshot = this.current;
+        return snapshot == null ? 0 : snapshot.filter().expectedFalsePositiveRate();
+    }
+
+    public long shortCircuited() {
+        return this.shortCircuited.sum();
+    }
+
+    public Duration lastRebuildDuration() {
+        return this.lastRebuildDuration;
+    }
+
+    private void tryRebuild() {
+        try {
+            rebuild();
+        } catch (final RuntimeException ex) {
+            // keep serving from the previous filter; the next run retries
+        }
+    }
+
+    // building is read before current so an id is never missed by both filters around a swap
+    private void remember(final CategoryId id) {
+        id.toUUID().ifPresent(uuid -> {
+            final var next = this.building;
+            final var snapshot = this.current;
+            if (snapshot != null) {
+                snapshot.filter().put(uuid);
+            }
+            if (next != null) {
+                next.put(uuid);
+            }
+        });
+    }
+
+    private boolean definitelyAbsent(final CategoryId id) {
+        final var snapshot = this.current;
+        final var absent = snapshot != null && id.toUUID()
+                .filter(snapshot::covers)
+                .map(uuid -> !snapshot.filter().mightContain(uuid))
+                .orElse(false);
+        if (absent) {
+            this.shortCircuited.increment();
+        }
+        return absent;
+    }
+
+    private boolean covered(final CategoryId id) {
+        final var snapshot = this.current;
+        return snapshot != null && id.toUUID().filter(snapshot::covers).isPresent();
+    }
+
+    // a UUIDv7 carries its creation time in unix millis in the upper 48 bits
+    private record Snapshot(BloomFilter filter, long coveredBefore) {
+        boolean covers(final UUID id) {
+            return id.version() != UUID_VERSION_7
+                    || (id.getMostSignificantBits() >>> 16) < this.coveredBefore;
+        }
+    }
+}
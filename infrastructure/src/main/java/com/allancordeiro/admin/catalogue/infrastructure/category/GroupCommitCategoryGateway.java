@@ -0,0 +1,213 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
+import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+// the first create of a group becomes its leader: it waits up to the window (or until the group
+// is full), then inserts every queued category with one createAll, i.e. one multi-row transaction.
+// when that transaction fails the group is retried row by row, so a bad row only fails its caller.
+// the insert runs on the leader's thread, outside any transaction the other callers may hold
+public class GroupCommitCategoryGateway implements CategoryGateway {
+    private final CategoryGateway delegate;
+    private final long windowNanos;
+    private final int maxGroupSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition full = this.lock.newCondition();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private List<Request> pending = new ArrayList<>();
+
+    public GroupCommitCategoryGateway(
+            final CategoryGateway delegate,
+            final Duration window,
+            final int maxGroupSize
+    ) {
+        if (maxGroupSize < 1) {
+            throw new IllegalArgumentException("maxGroupSize must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate);
+        this.windowNanos = Objects.requireNonNull(window).toNanos();
+        this.maxGroupSize = maxGroupSize;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var request = new Request(category, new CompletableFuture<>());
+        final List<Request> group;
+
+        this.lock.lock();
+        try {
+            // a full group whose leader has not woken up yet is closed; this request leads a new one
+            if (this.pending.size() >= this.maxGroupSize) {
+                this.pending = new ArrayList<>();
+            }
+            this.pending.add(request);
+            final var leader = this.pending.size() == 1;
+            if (!leader) {
+                if (this.pending.size() >= this.maxGroupSize) {
+                    this.full.signalAll();
+                }
+                group = null;
+            } else {
+                group = collect();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (group != null) {
+            commit(group);
+        }
+        return await(request.result());
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        this.delegate.deleteById(id);
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryId> ids) {
+        this.delegate.deleteAllByIds(ids);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryId id) {
+        return this.delegate.findVersionById(id);
+    }
+
+    @Override
+    public CategoryCatalogueVersion findCatalogueVersion() {
+        return this.delegate.findCatalogueVersion();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryId> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.delegate.update(category);
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        return this.delegate.updateAll(categories);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategorySearchQuery query) {
+        return this.delegate.findAllByCursor(query);
+    }
+
+    @Override
+    public void forEach(final Instant updatedSince, final Consumer<Category> action) {
+        this.delegate.forEach(updatedSince, action);
+    }
+
+    public long commits() {
+        return this.commits.sum();
+    }
+
+    // groups whose transaction failed and were retried one row at a time
+    public long fallbacks() {
+        return this.fallbacks.sum();
+    }
+
+    // called by the leader with the lock held; an interrupt cuts the window short but the
+    // group is still committed, otherwise the callers already queued would wait forever. several
+    // leaders may wait at once, so each one checks its own group and only resets pending if it
+    // is still the open one
+    private List<Request> collect() {
+        final var group = this.pending;
+        var remaining = this.windowNanos;
+        while (group.size() < this.maxGroupSize && remaining > 0) {
+            try {
+                remaining = this.full.awaitNanos(remaining);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (this.pending == group) {
+            this.pending = new ArrayList<>();
+        }
+        return group;
+    }
+
+    private void commit(final List<Request> group) {
+        this.commits.increment();
+        try {
+            this.delegate.createAll(group.stream().map(Request::category).toList());
+            group.forEach(request -> request.result().complete(request.category()));
+            return;
+        } catch (final RuntimeException | Error ex) {
+            if (group.size() == 1) {
+                group.get(0).result().completeExceptionally(ex);
+                return;
+            }
+        }
+
+        this.fallbacks.increment();
+        group.forEach(request -> {
+            try {
+                request.result().complete(this.delegate.create(request.category()));
+            } catch (final RuntimeException | Error ex) {
+                request.result().completeExceptionally(ex);
+            }
+        });
+    }
+
+    private static Category await(final CompletableFuture<Category> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record Request(Category category, CompletableFuture<Category> result) {
+    }
+}
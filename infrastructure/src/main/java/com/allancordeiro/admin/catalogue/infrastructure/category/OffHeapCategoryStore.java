@@ -0,0 +1,188 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+// categories encoded into one direct buffer used as a ring: writes append at the head and
+// overwrite the oldest entries, so eviction is FIFO by bytes. only the id -> offset index
+// lives on the heap. invalidated entries keep their bytes until the ring wraps over them
+public class OffHeapCategoryStore {
+    private static final int ACTIVE = 1;
+    private static final int HAS_DESCRIPTION = 1 << 1;
+    private static final int HAS_DELETED_AT = 1 << 2;
+
+    private final ByteBuffer arena;
+    private final long expireAfterWriteNanos;
+    private final Ticker ticker;
+    private final Map<CategoryId, Slot> index = new HashMap<>();
+    private final ArrayDeque<Entry> log = new ArrayDeque<>();
+    private int head;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public OffHeapCategoryStore(final long capacityBytes, final Duration expireAfterWrite, final Ticker ticker) {
+        if (capacityBytes <= 0 || capacityBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("capacityBytes must be between 1 and %d".formatted(Integer.MAX_VALUE));
+        }
+        this.arena = ByteBuffer.allocateDirect((int) capacityBytes);
+        this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+        this.ticker = ticker;
+    }
+
+    public Optional<Category> get(final CategoryId id) {
+        final byte[] bytes;
+        synchronized (this) {
+            final var slot = this.index.get(id);
+            if (slot == null || this.ticker.read() - slot.writtenAt() >= this.expireAfterWriteNanos) {
+                if (slot != null) {
+                    this.index.remove(id);
+                }
+                this.misses++;
+                return Optional.empty();
+            }
+            bytes = new byte[slot.length()];
+            this.arena.get(slot.position(), bytes);
+            this.hits++;
+        }
+        return Optional.of(decode(bytes));
+    }
+
+    public void put(final Category category) {
+        final var bytes = encode(category);
+        synchronized (this) {
+            if (bytes.length > this.arena.capacity()) {
+                return;
+            }
+            if (this.head + bytes.length > this.arena.capacity()) {
+                // the tail of the ring is too short: drop what is left of the previous lap and wrap
+                while (!this.log.isEmpty() && this.log.peekFirst().slot().position() >= this.head) {
+                    evict(this.log.pollFirst());
+                }
+                this.head = 0;
+            }
+            final var end = this.head + bytes.length;
+            while (!this.log.isEmpty() && overlaps(this.log.peekFirst().slot(), this.head, end)) {
+                evict(this.log.pollFirst());
+            }
+
+            this.arena.put(this.head, bytes);
+            final var slot = new Slot(this.head, bytes.length, this.ticker.read());
+            this.index.put(category.getId(), slot);
+            this.log.addLast(new Entry(category.getId(), slot));
+            this.head = end;
+        }
+    }
+
+    public synchronized void invalidate(final CategoryId id) {
+        this.index.remove(id);
+    }
+
+    public synchronized long size() {
+        return this.index.size();
+    }
+
+    public synchronized long hitCount() {
+        return this.hits;
+    }
+
+    public synchronized long missCount() {
+        return this.misses;
+    }
+
+    public synchronized long evictionCount() {
+        return this.evictions;
+    }
+
+    private void evict(final Entry entry) {
+        if (this.index.remove(entry.id(), entry.slot())) {
+            this.evictions++;
+        }
+    }
+
+    private static boolean overlaps(final Slot slot, final int start, final int end) {
+        return slot.position() < end && slot.position() + slot.length() > start;
+    }
+
+    static byte[] encode(final Category category) {
+        final var name = category.getName().getBytes(StandardCharsets.UTF_8);
+        final var description = category.getDescription() == null
+                ? null
+                : category.getDescription().getBytes(StandardCharsets.UTF_8);
+        final var deletedAt = category.getDeletedAt();
+
+        var flags = category.isActive() ? ACTIVE : 0;
+        var size = 16 + 1 + 4 + name.length + 12 + 12 + 8;
+        if (description != null) {
+            flags |= HAS_DESCRIPTION;
+            size += 4 + description.length;
+        }
+        if (deletedAt != null) {
+            flags |= HAS_DELETED_AT;
+            size += 12;
+        }
+
+        final var uuid = category.getId().toUUID().orElseThrow();
+        final var buffer = ByteBuffer.allocate(size)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .put((byte) flags)
+                .putInt(name.length)
+                .put(name);
+        if (description != null) {
+            buffer.putInt(description.length).put(description);
+        }
+        putInstant(buffer, category.getCreatedAt());
+        putInstant(buffer, category.getUpdatedAt());
+        if (deletedAt != null) {
+            putInstant(buffer, deletedAt);
+        }
+        buffer.putLong(category.getVersion());
+        return buffer.array();
+    }
+
+    static Category decode(final byte[] bytes) {
+        final var buffer = ByteBuffer.wrap(bytes);
+        final var id = CategoryId.from(new UUID(buffer.getLong(), buffer.getLong()));
+        final var flags = buffer.get();
+        final var name = getString(buffer);
+        final var description = (flags & HAS_DESCRIPTION) != 0 ? getString(buffer) : null;
+        final var createdAt = getInstant(buffer);
+        final var updatedAt = getInstant(buffer);
+        final var deletedAt = (flags & HAS_DELETED_AT) != 0 ? getInstant(buffer) : null;
+        final var version = buffer.getLong();
+
+        return Category.with(id, name, description, (flags & ACTIVE) != 0, createdAt, updatedAt, deletedAt, version);
+    }
+
+    private static void putInstant(final ByteBuffer buffer, final Instant instant) {
+        buffer.putLong(instant.getEpochSecond()).putInt(instant.getNano());
+    }
+
+    private static Instant getInstant(final ByteBuffer buffer) {
+        return Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+    }
+
+    private static String getString(final ByteBuffer buffer) {
+        final var value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private record Slot(int position, int length, long writtenAt) {
+    }
+
+    private record Entry(CategoryId id, Slot slot) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
+import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+// runs the listener after every write, successful or not, so caches outside the gateway
+// chain can invalidate what they derived from it
+public class WriteNotifyingCategoryGateway implements CategoryGateway {
+    private final CategoryGateway delegate;
+    private final Runnable onWrite;
+
+    public WriteNotifyingCategoryGateway(final CategoryGateway delegate, final Runnable onWrite) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.onWrite = Objects.requireNonNull(onWrite);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return this.delegate.create(category);
+        } finally {
+            this.onWrite.run();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return this.delegate.createAll(categories);
+        } finally {
+            this.onWrite.run();
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryId id) {
+        try {
+            this.delegate.deleteById(id);
+        } finally {
+            this.onWrite.run();
+        }
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryId> ids) {
+        try {
+            this.delegate.deleteAllByIds(ids);
+        } finally {
+            this.onWrite.run();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryId id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public Optional<CategoryVersion> findVersionById(final CategoryId id) {
+        return this.delegate.findVersionById(id);
+    }
+
+    @Override
+    public CategoryCatalogueVersion findCatalogueVersion() {
+        return this.delegate.findCatalogueVersion();
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryId> ids) {
+        return this.delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return this.delegate.update(category);
+        } finally {
+            this.onWrite.run();
+        }
+    }
+
+    @Override
+    public List<Category> updateAll(final List<Category> categories) {
+        try {
+            return this.delegate.updateAll(categories);
+        } finally {
+            this.onWrite.run();
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategorySearchQuery query) {
+        return this.delegate.findAllByCursor(query);
+    }
+
+    @Override
+    public void forEach(final Instant updatedSince, final Consumer<Category> action) {
+        this.delegate.forEach(updatedSince, action);
+    }
+}
@@ -0,0 +1,12 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BulkCategoryRequest(
+        @JsonProperty("op") String op,
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("is_active") Boolean active
+) {
+}
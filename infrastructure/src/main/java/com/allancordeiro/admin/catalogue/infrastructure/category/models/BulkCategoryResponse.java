@@ -0,0 +1,15 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category.models;
+
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkCategoryResponse(
+        @JsonProperty("index") int index,
+        @JsonProperty("op") String op,
+        @JsonProperty("id") String id,
+        @JsonProperty("status") int status,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
@@ -0,0 +1,11 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CategoriesByIdsResponse(
+        @JsonProperty("items") List<CategoryResponse> items,
+        @JsonProperty("missing") List<String> missing
+) {
+}
@@ -2,20 +2,25 @@ package com.allancordeiro.admin.catalogue.infrastructure.category.persistence;
 
 import com.allancordeiro.admin.catalogue.domain.category.Category;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.infrastructure.utils.NormalizationUtils;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import java.time.Instant;
+import java.util.UUID;
 
 @Entity
 @Table(name = "category")
 public class CategoryJpaEntity {
     @Id
-    private String id;
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID id;
     @Column(name = "name", nullable = false)
     private String name;
+    @Column(name = "name_normalized", nullable = false)
+    private String normalizedName;
     @Column(name = "description", length = 4000, nullable = true)
     private String description;
     @Column(name = "active", nullable = false)
@@ -26,37 +31,43 @@ public class CategoryJpaEntity {
     private Instant updatedAt;
     @Column(name = "deleted_at", nullable = true, columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
+    @Column(name = "version", nullable = false)
+    private long version;
 
     public CategoryJpaEntity() {
     }
 
     private CategoryJpaEntity(
-            final String id,
+            final UUID id,
             final String name,
             final String description,
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt) {
+            final Instant deletedAt,
+            final long version) {
 
         this.id = id;
         this.name = name;
+        this.normalizedName = NormalizationUtils.normalize(name);
         this.description = description;
         this.active = active;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category category) {
         return new CategoryJpaEntity(
-                category.getId().getValue(),
+                category.getId().toUUID().orElseThrow(),
                 category.getName(),
                 category.getDescription(),
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 
@@ -68,15 +79,16 @@ public class CategoryJpaEntity {
                 isActive(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
-    public String getId() {
+    public UUID getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(UUID id) {
         this.id = id;
     }
 
@@ -86,6 +98,15 @@ public class CategoryJpaEntity {
 
     public void setName(String name) {
         this.name = name;
+        this.normalizedName = NormalizationUtils.normalize(name);
+    }
+
+    public String getNormalizedName() {
+        return normalizedName;
+    }
+
+    public void setNormalizedName(String normalizedName) {
+        this.normalizedName = normalizedName;
     }
 
     public String getDescription() {
@@ -127,4 +148,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
@@ -1,10 +1,42 @@
 package com.allancordeiro.admin.catalogue.infrastructure.category.persistence;
 
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, UUID>, CategoryRepositoryCustom {
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+    @Query("SELECT new com.allancordeiro.admin.catalogue.domain.category.CategoryVersion(c.version, c.updatedAt) "
+            + "FROM CategoryJpaEntity c WHERE c.id = :id")
+    Optional<CategoryVersion> findVersionById(@Param("id") UUID id);
+
+    @Query("SELECT new com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion("
+            + "COUNT(c), COALESCE(SUM(c.version), 0L), MAX(c.updatedAt)) FROM CategoryJpaEntity c")
+    CategoryCatalogueVersion findCatalogueVersion();
+
+    @Query("SELECT c.id FROM CategoryJpaEntity c WHERE c.id > :after ORDER BY c.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable page);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CategoryJpaEntity c WHERE c.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM CategoryJpaEntity c WHERE c.id IN :ids")
+    int removeAllByIds(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,19 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface CategoryRepositoryCustom {
+    List<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Sort sort, int offset, int limit);
+    CategoryJpaEntity insert(CategoryJpaEntity entity);
+    int update(UUID id, long expectedVersion, Map<String, Object> values);
+    List<CategoryJpaEntity> insertAll(List<CategoryJpaEntity> entities, int batchSize);
+    int[] updateAll(List<CategoryJpaEntity> entities, int batchSize);
+    void forEach(Instant updatedSince, int fetchSize, Consumer<CategoryJpaEntity> action);
+}
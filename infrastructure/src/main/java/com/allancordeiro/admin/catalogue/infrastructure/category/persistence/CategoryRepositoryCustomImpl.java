@@ -0,0 +1,183 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category.persistence;
+
+import org.hibernate.Session;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.Path;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// writes go through persist so assigned ids do not trigger the select-before-insert of save/merge
+public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
+    private static final String UPDATE_ALL = "UPDATE category SET name = ?, name_normalized = ?, description = ?, "
+            + "active = ?, updated_at = ?, deleted_at = ?, version = ? WHERE id = ? AND version = ?";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<CategoryJpaEntity> findAll(
+            final Specification<CategoryJpaEntity> whereClause,
+            final Sort sort,
+            final int offset,
+            final int limit
+    ) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        final var predicate = whereClause != null ? whereClause.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return this.entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional
+    public CategoryJpaEntity insert(final CategoryJpaEntity entity) {
+        this.entityManager.persist(entity);
+        this.entityManager.flush();
+        return entity;
+    }
+
+    @Override
+    @Transactional
+    public int update(final UUID id, final long expectedVersion, final Map<String, Object> values) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var update = cb.createCriteriaUpdate(CategoryJpaEntity.class);
+        final var root = update.from(CategoryJpaEntity.class);
+
+        values.forEach((attribute, value) -> {
+            final Path<Object> path = root.get(attribute);
+            if (value == null) {
+                update.<Object>set(path, cb.nullLiteral(path.getJavaType()));
+            } else {
+                update.set(attribute, value);
+            }
+        });
+        // compare-and-set on the version: a concurrent writer makes this match no row instead of
+        // being overwritten, and no lock is taken
+        update.set("version", expectedVersion + 1);
+        update.where(cb.equal(root.get("id"), id), cb.equal(root.get("version"), expectedVersion));
+
+        this.entityManager.flush();
+        final var affected = this.entityManager.createQuery(update).executeUpdate();
+        this.entityManager.clear();
+        return affected;
+    }
+
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> insertAll(final List<CategoryJpaEntity> entities, final int batchSize) {
+        this.entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        for (int i = 0; i < entities.size(); i++) {
+            this.entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        return entities;
+    }
+
+    // one prepared statement for every row so the driver can send them as a single batch; it writes
+    // every column, since a batch cannot vary its SET list per row. each count is 0 for a row whose
+    // version moved on or that was deleted
+    @Override
+    @Transactional
+    public int[] updateAll(final List<CategoryJpaEntity> entities, final int batchSize) {
+        this.entityManager.flush();
+        final var counts = this.entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            final var affected = new int[entities.size()];
+            try (final var statement = connection.prepareStatement(UPDATE_ALL)) {
+                int executed = 0;
+                for (int i = 0; i < entities.size(); i++) {
+                    bind(statement, entities.get(i));
+                    statement.addBatch();
+                    if ((i + 1) % batchSize == 0 || i == entities.size() - 1) {
+                        final var batch = statement.executeBatch();
+                        System.arraycopy(batch, 0, affected, executed, batch.length);
+                        executed += batch.length;
+                    }
+                }
+            }
+            return affected;
+        });
+        this.entityManager.clear();
+        return counts;
+    }
+
+    // a forward-only cursor, fetchSize rows per round trip; each row is detached once handled so the
+    // persistence context stays the same size whatever the table size. the updated_at index serves
+    // both the filter and the order, the primary key the full scan
+    @Override
+    @Transactional(readOnly = true)
+    public void forEach(final Instant updatedSince, final int fetchSize, final Consumer<CategoryJpaEntity> action) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.select(root);
+        if (updatedSince != null) {
+            query.where(cb.greaterThanOrEqualTo(root.<Instant>get("updatedAt"), updatedSince));
+            query.orderBy(cb.asc(root.get("updatedAt")), cb.asc(root.get("id")));
+        } else {
+            query.orderBy(cb.asc(root.get("id")));
+        }
+
+        try (final var rows = this.entityManager.createQuery(query)
+                .setHint(QueryHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.HINT_READONLY, true)
+                .getResultStream()) {
+            rows.forEach(entity -> {
+                action.accept(entity);
+                this.entityManager.detach(entity);
+            });
+        }
+    }
+
+    private static void bind(final PreparedStatement statement, final CategoryJpaEntity entity) throws SQLException {
+        statement.setString(1, entity.getName());
+        statement.setString(2, entity.getNormalizedName());
+        statement.setString(3, entity.getDescription());
+        statement.setBoolean(4, entity.isActive());
+        statement.setTimestamp(5, Timestamp.from(entity.getUpdatedAt()));
+        statement.setTimestamp(6, entity.getDeletedAt() != null ? Timestamp.from(entity.getDeletedAt()) : null);
+        statement.setLong(7, entity.getVersion() + 1);
+        statement.setBytes(8, bytes(entity.getId()));
+        statement.setLong(9, entity.getVersion());
+    }
+
+    private static byte[] bytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -1,9 +1,15 @@
 package com.allancordeiro.admin.catalogue.infrastructure.category.presenters;
 
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesCommand;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesOutput;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.CategoriesByIdsOutput;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.get.CategoryOutput;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.list.CategoryListOutput;
+import com.allancordeiro.admin.catalogue.infrastructure.category.models.BulkCategoryResponse;
+import com.allancordeiro.admin.catalogue.infrastructure.category.models.CategoriesByIdsResponse;
 import com.allancordeiro.admin.catalogue.infrastructure.category.models.CategoryResponse;
 import com.allancordeiro.admin.catalogue.infrastructure.category.models.CategoryListResponse;
+import org.springframework.http.HttpStatus;
 
 public interface CategoryApiPresenter {
     static CategoryResponse present(final CategoryOutput output) {
@@ -28,4 +34,27 @@ public interface CategoryApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static CategoriesByIdsResponse present(final CategoriesByIdsOutput output) {
+        return new CategoriesByIdsResponse(
+                output.items().stream().map(CategoryApiPresenter::present).toList(),
+                output.missing()
+        );
+    }
+
+    // index is the position in the whole request, offset being where the item's chunk starts
+    static BulkCategoryResponse present(final int offset, final BulkCategoriesOutput.Item item) {
+        final var status = switch (item.status()) {
+            case OK -> switch (item.op()) {
+                case BulkCategoriesCommand.CREATE -> HttpStatus.CREATED;
+                case BulkCategoriesCommand.DELETE -> HttpStatus.NO_CONTENT;
+                default -> HttpStatus.OK;
+            };
+            case INVALID -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case CONFLICT -> HttpStatus.CONFLICT;
+            case FAILED -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+        return new BulkCategoryResponse(offset + item.index(), item.op(), item.id(), status.value(), item.errors());
+    }
 }
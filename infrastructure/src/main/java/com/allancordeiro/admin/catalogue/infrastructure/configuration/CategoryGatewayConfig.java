@@ -0,0 +1,132 @@
+package com.allancordeiro.admin.catalogue.infrastructure.configuration;
+
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.BatchingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CachingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryMySQLGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryResponseCache;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CoalescingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.ExistenceFilterCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.GroupCommitCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.WriteNotifyingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+// each enabled decorator is a bean of its own type, so its stats can be injected and its
+// resources are released by the context. they wrap one another in declaration order, mysql
+// innermost; outermost() resolves whichever layer ends up on top
+@Configuration
+public class CategoryGatewayConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "category.group-commit.enabled", havingValue = "true")
+    public GroupCommitCategoryGateway groupCommitCategoryGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            @Value("${category.group-commit.window:500us}") final Duration window,
+            @Value("${category.group-commit.maximum-size:500}") final int maximumSize
+    ) {
+        return new GroupCommitCategoryGateway(categoryMySQLGateway, window, maximumSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.batching.enabled", havingValue = "true")
+    public BatchingCategoryGateway batchingCategoryGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final ObjectProvider<GroupCommitCategoryGateway> grouped,
+            @Value("${category.batching.window:2ms}") final Duration window,
+            @Value("${category.batching.maximum-size:100}") final int maximumSize
+    ) {
+        return new BatchingCategoryGateway(outermost(categoryMySQLGateway, grouped), window, maximumSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.coalescing.enabled", havingValue = "true")
+    public CoalescingCategoryGateway coalescingCategoryGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final ObjectProvider<GroupCommitCategoryGateway> grouped,
+            final ObjectProvider<BatchingCategoryGateway> batched
+    ) {
+        return new CoalescingCategoryGateway(outermost(categoryMySQLGateway, grouped, batched));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.existence-filter.enabled", havingValue = "true")
+    public ExistenceFilterCategoryGateway existenceFilterCategoryGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final ObjectProvider<GroupCommitCategoryGateway> grouped,
+            final ObjectProvider<BatchingCategoryGateway> batched,
+            final ObjectProvider<CoalescingCategoryGateway> coalesced,
+            final CategoryRepository categoryRepository,
+            @Value("${category.existence-filter.false-positive-probability:0.01}") final double falsePositiveProbability,
+            @Value("${category.existence-filter.rebuild-interval:10m}") final Duration rebuildInterval
+    ) {
+        return new ExistenceFilterCategoryGateway(
+                outermost(categoryMySQLGateway, grouped, batched, coalesced),
+                categoryRepository,
+                falsePositiveProbability,
+                rebuildInterval
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.cache.enabled", havingValue = "true")
+    public CachingCategoryGateway cachingCategoryGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final ObjectProvider<GroupCommitCategoryGateway> grouped,
+            final ObjectProvider<BatchingCategoryGateway> batched,
+            final ObjectProvider<CoalescingCategoryGateway> coalesced,
+            final ObjectProvider<ExistenceFilterCategoryGateway> filtered,
+            @Value("${category.cache.maximum-bytes:16MB}") final DataSize maximumBytes,
+            @Value("${category.cache.off-heap-bytes:0}") final DataSize offHeapBytes,
+            @Value("${category.cache.list-maximum-bytes:4MB}") final DataSize listMaximumBytes,
+            @Value("${category.cache.expire-after-write:10m}") final Duration expireAfterWrite
+    ) {
+        return new CachingCategoryGateway(
+                outermost(categoryMySQLGateway, grouped, batched, coalesced, filtered),
+                maximumBytes.toBytes(),
+                offHeapBytes.toBytes(),
+                listMaximumBytes.toBytes(),
+                expireAfterWrite
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "category.response-cache.enabled", havingValue = "true")
+    public WriteNotifyingCategoryGateway writeNotifyingCategoryGateway(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final ObjectProvider<GroupCommitCategoryGateway> grouped,
+            final ObjectProvider<BatchingCategoryGateway> batched,
+            final ObjectProvider<CoalescingCategoryGateway> coalesced,
+            final ObjectProvider<ExistenceFilterCategoryGateway> filtered,
+            final ObjectProvider<CachingCategoryGateway> cached,
+            final CategoryResponseCache categoryResponseCache
+    ) {
+        return new WriteNotifyingCategoryGateway(
+                outermost(categoryMySQLGateway, grouped, batched, coalesced, filtered, cached),
+                categoryResponseCache::invalidate
+        );
+    }
+
+    // layers go innermost first; disabled ones are skipped
+    @SafeVarargs
+    public static CategoryGateway outermost(
+            final CategoryGateway innermost,
+            final ObjectProvider<? extends CategoryGateway>... layers
+    ) {
+        var gateway = innermost;
+        for (final var layer : layers) {
+            final var decorator = layer.getIfAvailable();
+            if (decorator != null) {
+                gateway = decorator;
+            }
+        }
+        return gateway;
+    }
+}
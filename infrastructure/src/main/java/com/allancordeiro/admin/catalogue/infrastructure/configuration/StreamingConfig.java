@@ -0,0 +1,39 @@
+package com.allancordeiro.admin.catalogue.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.annotation.PreDestroy;
+
+// streamed bodies (bulk, export) run on this executor instead of boot's shared one, whose queue is
+// unbounded. threads plus queue stay below the connection pool; a stream that does not fit is
+// rejected and answered with 503. timeouts are set per endpoint by the controller
+@Configuration
+public class StreamingConfig implements WebMvcConfigurer {
+    private final ThreadPoolTaskExecutor executor;
+
+    public StreamingConfig(
+            @Value("${streaming.threads:8}") final int threads,
+            @Value("${streaming.queue-capacity:8}") final int queueCapacity
+    ) {
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(threads);
+        this.executor.setMaxPoolSize(threads);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("streaming-");
+        this.executor.initialize();
+    }
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(this.executor);
+    }
+
+    @PreDestroy
+    public void close() {
+        this.executor.shutdown();
+    }
+}
@@ -0,0 +1,17 @@
+package com.allancordeiro.admin.catalogue.infrastructure.configuration.hibernate;
+
+import com.allancordeiro.admin.catalogue.infrastructure.utils.SpecificationUtils;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+public class MySQLFullTextFunctionContributor implements MetadataBuilderContributor {
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(
+                SpecificationUtils.MATCH_AGAINST,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "MATCH(?1, ?2) AGAINST (?3 IN NATURAL LANGUAGE MODE)")
+        );
+    }
+}
@@ -1,34 +1,95 @@
 package com.allancordeiro.admin.catalogue.infrastructure.configuration.usecases;
 
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesUseCase;
+import com.allancordeiro.admin.catalogue.application.category.bulk.DefaultBulkCategoriesUseCase;
+import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoriesUseCase;
 import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.create.DefaultCreateCategoriesUseCase;
 import com.allancordeiro.admin.catalogue.application.category.create.DefaultCreateCategoryUseCase;
 import com.allancordeiro.admin.catalogue.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.allancordeiro.admin.catalogue.application.category.delete.DeleteCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.DefaultGetCategoryVersionUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoryVersionUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.DefaultGetCategoryCatalogueVersionUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.DefaultListCategoriesByCursorUseCase;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.GetCategoryCatalogueVersionUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.ListCategoriesByCursorUseCase;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.list.ListCategoriesUseCase;
 import com.allancordeiro.admin.catalogue.application.category.update.DefaultUpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.update.SerializedUpdateCategoryUseCase;
 import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.utils.StripedLock;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.BatchingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CachingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryMySQLGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CoalescingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.ExistenceFilterCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.GroupCommitCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.WriteNotifyingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.configuration.CategoryGatewayConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class CategoryUseCaseConfig {
     private final CategoryGateway categoryGateway;
+    private final boolean updateLockEnabled;
+    private final int updateLockStripes;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+    public CategoryUseCaseConfig(
+            final CategoryMySQLGateway categoryMySQLGateway,
+            final ObjectProvider<GroupCommitCategoryGateway> grouped,
+            final ObjectProvider<BatchingCategoryGateway> batched,
+            final ObjectProvider<CoalescingCategoryGateway> coalesced,
+            final ObjectProvider<ExistenceFilterCategoryGateway> filtered,
+            final ObjectProvider<CachingCategoryGateway> cached,
+            final ObjectProvider<WriteNotifyingCategoryGateway> notifying,
+            @Value("${category.update-lock.enabled:false}") final boolean updateLockEnabled,
+            @Value("${category.update-lock.stripes:1024}") final int updateLockStripes
+    ) {
+        this.categoryGateway = CategoryGatewayConfig.outermost(
+                categoryMySQLGateway,
+                grouped,
+                batched,
+                coalesced,
+                filtered,
+                cached,
+                notifying
+        );
+        this.updateLockEnabled = updateLockEnabled;
+        this.updateLockStripes = updateLockStripes;
     }
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(categoryGateway);
+    }
+    @Bean
+    public BulkCategoriesUseCase bulkCategoriesUseCase() {
+        return new DefaultBulkCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCaseCategoryUseCase() {
-        return new DefaultUpdateCategoryUseCase(categoryGateway);
+        final var useCase = new DefaultUpdateCategoryUseCase(categoryGateway);
+        return updateLockEnabled
+                ? new SerializedUpdateCategoryUseCase(useCase, new StripedLock(updateLockStripes))
+                : useCase;
     }
 
     @Bean
@@ -36,11 +97,36 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoryVersionUseCase getCategoryVersionUseCase() {
+        return new DefaultGetCategoryVersionUseCase(categoryGateway);
+    }
+
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
 
+    @Bean
+    public ListCategoriesByCursorUseCase listCategoriesByCursorUseCase() {
+        return new DefaultListCategoriesByCursorUseCase(categoryGateway);
+    }
+
+    @Bean
+    public GetCategoryCatalogueVersionUseCase getCategoryCatalogueVersionUseCase() {
+        return new DefaultGetCategoryCatalogueVersionUseCase(categoryGateway);
+    }
+
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCaseCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
@@ -0,0 +1,17 @@
+package com.allancordeiro.admin.catalogue.infrastructure.idempotency;
+
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+
+import java.util.Collections;
+
+public class IdempotencyKeyInProgressException extends DomainException {
+    private IdempotencyKeyInProgressException(final String message) {
+        super(message, Collections.emptyList());
+    }
+
+    public static IdempotencyKeyInProgressException with(final String key) {
+        return new IdempotencyKeyInProgressException(
+                "A request with Idempotency-Key %s is still being processed".formatted(key)
+        );
+    }
+}
@@ -0,0 +1,179 @@
+package com.allancordeiro.admin.catalogue.infrastructure.idempotency;
+
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+import com.allancordeiro.admin.catalogue.domain.utils.InstantUtils;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+import com.allancordeiro.admin.catalogue.infrastructure.idempotency.persistence.IdempotencyKeyJpaEntity;
+import com.allancordeiro.admin.catalogue.infrastructure.idempotency.persistence.IdempotencyKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.vavr.API;
+import io.vavr.control.Either;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// remembers the result of a request by its Idempotency-Key for the ttl. the key row is inserted
+// before the request runs, so a concurrent retry finds it taken instead of running twice; finished
+// results are also kept in memory so replays usually skip MySQL. failed requests are forgotten.
+// a reservation left unfinished for longer than the lease (the process died, or completing failed)
+// is taken over by the next retry instead of blocking the key until the ttl
+@Component
+public class IdempotencyStore {
+    public static final int MAX_KEY_LENGTH = 200;
+
+    private final IdempotencyKeyRepository repository;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Cache<String, Entry> completed;
+    private final ScheduledExecutorService scheduler;
+
+    public IdempotencyStore(
+            final IdempotencyKeyRepository repository,
+            @Value("${idempotency.ttl:24h}") final Duration ttl,
+            @Value("${idempotency.lease:1m}") final Duration lease,
+            @Value("${idempotency.front-cache-maximum-size:100000}") final long frontCacheMaximumSize,
+            @Value("${idempotency.purge-interval:1h}") final Duration purgeInterval
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.ttl = Objects.requireNonNull(ttl);
+        this.lease = Objects.requireNonNull(lease);
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(frontCacheMaximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        if (purgeInterval.isZero()) {
+            this.scheduler = null;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "idempotency-key-purge");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(
+                    this::tryPurge,
+                    purgeInterval.toMillis(),
+                    purgeInterval.toMillis(),
+                    TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    public Either<Notification, String> execute(
+            final String scope,
+            final String key,
+            final String fingerprint,
+            final Supplier<Either<Notification, String>> action
+    ) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw DomainException.with(new Error(
+                    "'Idempotency-Key' must have between 1 and %d characters".formatted(MAX_KEY_LENGTH)
+            ));
+        }
+
+        final var id = scope + ":" + key;
+        final var cached = this.completed.getIfPresent(id);
+        if (cached != null) {
+            return replay(key, cached, fingerprint);
+        }
+
+        final var reservedAt = reserve(id, fingerprint);
+        if (reservedAt == null) {
+            final var stored = this.repository.findById(id)
+                    .filter(it -> it.getResult() != null)
+                    .map(IdempotencyStore::entry)
+                    .orElseThrow(() -> IdempotencyKeyInProgressException.with(key));
+            this.completed.put(id, stored);
+            return replay(key, stored, fingerprint);
+        }
+
+        final Either<Notification, String> result;
+        try {
+            result = action.get();
+        } catch (final RuntimeException ex) {
+            this.repository.release(id, reservedAt);
+            throw ex;
+        }
+
+        if (result.isLeft()) {
+            this.repository.release(id, reservedAt);
+            return result;
+        }
+        // zero rows means the lease ran out and a retry took the key over; the action still ran, so its
+        // result is returned, but it is not remembered since the key may now stand for the retry's result
+        if (this.repository.complete(id, reservedAt, result.get()) == 1) {
+            this.completed.put(id, new Entry(fingerprint, result.get()));
+        }
+        return result;
+    }
+
+    public int purge() {
+        return this.repository.deleteCreatedBefore(InstantUtils.now().minus(this.ttl));
+    }
+
+    // returns when the key was reserved, or null when it is taken. a taken key is only replaced when
+    // its row has outlived the ttl, or is still unfinished after the lease
+    private Instant reserve(final String id, final String fingerprint) {
+        final var reservedAt = tryReserve(id, fingerprint);
+        if (reservedAt != null) {
+            return reservedAt;
+        }
+        final var now = InstantUtils.now();
+        if (this.repository.releaseIfStale(id, now.minus(this.ttl), now.minus(this.lease)) == 0) {
+            return null;
+        }
+        return tryReserve(id, fingerprint);
+    }
+
+    private Instant tryReserve(final String id, final String fingerprint) {
+        final var reservedAt = InstantUtils.now();
+        try {
+            this.repository.reserve(id, fingerprint, reservedAt);
+            return reservedAt;
+        } catch (final DataIntegrityViolationException ex) {
+            return null;
+        }
+    }
+
+    private void tryPurge() {
+        try {
+            purge();
+        } catch (final RuntimeException ex) {
+            // expired rows are also replaced on reuse; the next run retries
+        }
+    }
+
+    private static Either<Notification, String> replay(final String key, final Entry entry, final String fingerprint) {
+        if (!entry.fingerprint().equals(fingerprint)) {
+            throw DomainException.with(new Error(
+                    "Idempotency-Key %s was already used for a different request".formatted(key)
+            ));
+        }
+        return API.Right(entry.result());
+    }
+
+    private static Entry entry(final IdempotencyKeyJpaEntity entity) {
+        return new Entry(entity.getFingerprint(), entity.getResult());
+    }
+
+    private record Entry(String fingerprint, String result) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.allancordeiro.admin.catalogue.infrastructure.idempotency.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+// result is null while the first request with this key is still running
+@Entity
+@Table(name = "idempotency_key")
+public class IdempotencyKeyJpaEntity {
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+    @Column(name = "fingerprint", nullable = false, length = 32, columnDefinition = "CHAR(32)")
+    private String fingerprint;
+    @Column(name = "result", nullable = true)
+    private String result;
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    public IdempotencyKeyJpaEntity() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.allancordeiro.admin.catalogue.infrastructure.idempotency.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyJpaEntity, String> {
+    // a plain INSERT, so a key already taken fails on the primary key instead of being merged
+    @Transactional
+    @Modifying
+    @Query(
+            value = "INSERT INTO idempotency_key (id, fingerprint, created_at) VALUES (:id, :fingerprint, :createdAt)",
+            nativeQuery = true
+    )
+    int reserve(@Param("id") String id, @Param("fingerprint") String fingerprint, @Param("createdAt") Instant createdAt);
+
+    // complete and release match the reservation's createdAt, so they never touch a row that took it over
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE IdempotencyKeyJpaEntity k SET k.result = :result
+            WHERE k.id = :id AND k.createdAt = :reservedAt AND k.result IS NULL
+            """)
+    int complete(@Param("id") String id, @Param("reservedAt") Instant reservedAt, @Param("result") String result);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.id = :id AND k.createdAt = :reservedAt AND k.result IS NULL")
+    int release(@Param("id") String id, @Param("reservedAt") Instant reservedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            DELETE FROM IdempotencyKeyJpaEntity k
+            WHERE k.id = :id AND (k.createdAt < :expiredBefore OR (k.result IS NULL AND k.createdAt < :abandonedBefore))
+            """)
+    int releaseIfStale(
+            @Param("id") String id,
+            @Param("expiredBefore") Instant expiredBefore,
+            @Param("abandonedBefore") Instant abandonedBefore
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,71 @@
+package com.allancordeiro.admin.catalogue.infrastructure.utils;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// fixed-size Bloom filter over UUIDs; safe for concurrent put/mightContain, never removes
+public final class BloomFilter {
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final LongAdder bitsSet = new LongAdder();
+
+    private BloomFilter(final long bits, final int hashes) {
+        this.words = new AtomicLongArray((int) ((bits + 63) >>> 6));
+        this.bits = bits;
+        this.hashes = hashes;
+    }
+
+    public static BloomFilter create(final long expectedInsertions, final double falsePositiveProbability) {
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+        }
+        final var n = Math.max(1, expectedInsertions);
+        final var bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (LN2 * LN2)));
+        final var hashes = Math.max(1, (int) Math.round((double) bits / n * LN2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(final UUID value) {
+        final var h1 = mix(value.getMostSignificantBits() ^ mix(value.getLeastSignificantBits()));
+        final var h2 = mix(value.getLeastSignificantBits() ^ h1);
+        for (int i = 0; i < this.hashes; i++) {
+            final var index = Long.remainderUnsigned(h1 + i * h2, this.bits);
+            final var mask = 1L << index;
+            final var previous = this.words.getAndAccumulate((int) (index >>> 6), mask, (a, b) -> a | b);
+            if ((previous & mask) == 0) {
+                this.bitsSet.increment();
+            }
+        }
+    }
+
+    public boolean mightContain(final UUID value) {
+        final var h1 = mix(value.getMostSignificantBits() ^ mix(value.getLeastSignificantBits()));
+        final var h2 = mix(value.getLeastSignificantBits() ^ h1);
+        for (int i = 0; i < this.hashes; i++) {
+            final var index = Long.remainderUnsigned(h1 + i * h2, this.bits);
+            if ((this.words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // probability that an absent value passes, given how full the filter is right now
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) this.bitsSet.sum() / this.bits, this.hashes);
+    }
+
+    // murmur3 fmix64
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.allancordeiro.admin.catalogue.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class NormalizationUtils {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private NormalizationUtils() {}
+
+    public static String normalize(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final var decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
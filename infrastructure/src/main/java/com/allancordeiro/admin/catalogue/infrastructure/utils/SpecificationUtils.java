@@ -3,14 +3,77 @@ package com.allancordeiro.admin.catalogue.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+
 public final class SpecificationUtils {
+    public static final String MATCH_AGAINST = "match_against";
+    private static final char ESCAPE = '!';
+
     private SpecificationUtils() {}
 
     public static <T> Specification<T> like(final String prop, final String term) {
         return (root, query1, cb) -> cb.like(cb.upper(root.get(prop)), like(term).toUpperCase());
     }
 
+    public static <T> Specification<T> startsWith(final String prop, final String prefix) {
+        return (root, query1, cb) -> cb.like(root.get(prop), escape(prefix) + "%", ESCAPE);
+    }
+
+    public static <T> Specification<T> match(final String first, final String second, final String terms) {
+        return (root, query1, cb) -> cb.greaterThan(
+                cb.function(MATCH_AGAINST, Double.class, root.get(first), root.get(second), cb.literal(terms)),
+                0d
+        );
+    }
+
+    public static <T> Specification<T> orderByRelevance(
+            final String first,
+            final String second,
+            final String terms,
+            final String tieBreaker
+    ) {
+        return (root, query1, cb) -> {
+            query1.orderBy(
+                    cb.desc(cb.function(MATCH_AGAINST, Double.class, root.get(first), root.get(second), cb.literal(terms))),
+                    cb.asc(root.get(tieBreaker))
+            );
+            return null;
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(
+            final List<String> props,
+            final List<? extends Comparable<?>> values,
+            final boolean ascending
+    ) {
+        return (root, query1, cb) -> {
+            final var predicates = new ArrayList<Predicate>();
+            for (int i = 0; i < props.size(); i++) {
+                final var conditions = new ArrayList<Predicate>();
+                for (int j = 0; j < i; j++) {
+                    conditions.add(cb.equal(root.get(props.get(j)), values.get(j)));
+                }
+                final Expression<Comparable> path = root.get(props.get(i));
+                final Comparable value = values.get(i);
+                conditions.add(ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+                predicates.add(cb.and(conditions.toArray(Predicate[]::new)));
+            }
+            return cb.or(predicates.toArray(Predicate[]::new));
+        };
+    }
+
     private static String like(final String term) {
         return "%" + term + "%";
     }
+
+    private static String escape(final String term) {
+        return term
+                .replace(String.valueOf(ESCAPE), String.valueOf(ESCAPE) + ESCAPE)
+                .replace("%", ESCAPE + "%")
+                .replace("_", ESCAPE + "_");
+    }
 }
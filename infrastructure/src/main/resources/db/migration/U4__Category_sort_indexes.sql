@@ -0,0 +1,4 @@
+DROP INDEX idx_category_active_name ON category;
+DROP INDEX idx_category_updated_at ON category;
+DROP INDEX idx_category_created_at ON category;
+DROP INDEX idx_category_name ON category;
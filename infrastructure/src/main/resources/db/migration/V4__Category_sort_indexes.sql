@@ -0,0 +1,4 @@
+CREATE INDEX idx_category_name ON category (name);
+CREATE INDEX idx_category_created_at ON category (created_at);
+CREATE INDEX idx_category_updated_at ON category (updated_at);
+CREATE INDEX idx_category_active_name ON category (active, name);
@@ -0,0 +1,8 @@
+CREATE TABLE idempotency_key (
+    id VARCHAR(255) NOT NULL PRIMARY KEY,
+    fingerprint CHAR(32) NOT NULL,
+    result VARCHAR(255) NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_key_created_at ON idempotency_key (created_at);
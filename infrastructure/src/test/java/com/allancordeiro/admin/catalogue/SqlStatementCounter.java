@@ -0,0 +1,22 @@
+package com.allancordeiro.admin.catalogue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import javax.persistence.EntityManagerFactory;
+
+public class SqlStatementCounter {
+    private final Statistics statistics;
+
+    public SqlStatementCounter(final EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public void reset() {
+        this.statistics.clear();
+    }
+
+    public long count() {
+        return this.statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,54 @@
+package com.allancordeiro.admin.catalogue.application.category.bulk;
+
+import com.allancordeiro.admin.catalogue.IntegrationTest;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesCommand.Operation;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesOutput.Status;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryJpaEntity;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+@IntegrationTest
+public class BulkCategoriesUseCaseIT {
+    @Autowired
+    private BulkCategoriesUseCase useCase;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenMixedOperations_whenCallsBulk_thenShouldPersistEachValidOne() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        final var command = BulkCategoriesCommand.with(List.of(
+                Operation.create("Animes", null, true),
+                Operation.update(filmes.getId().getValue(), "Filmes", "A categoria mais assistida", false),
+                Operation.create("", null, true),
+                Operation.delete(series.getId().getValue())
+        ));
+
+        final var actualOutput = useCase.execute(command);
+
+        Assertions.assertEquals(
+                List.of(Status.OK, Status.OK, Status.INVALID, Status.OK),
+                actualOutput.items().stream().map(BulkCategoriesOutput.Item::status).toList()
+        );
+        Assertions.assertEquals(2, categoryRepository.count());
+        Assertions.assertFalse(categoryRepository.existsById(series.getId().toUUID().orElseThrow()));
+
+        final var actualCreated = categoryRepository.findById(UUID.fromString(actualOutput.items().get(0).id())).get();
+        Assertions.assertEquals("Animes", actualCreated.getName());
+
+        final var actualUpdated = categoryRepository.findById(filmes.getId().toUUID().orElseThrow()).get();
+        Assertions.assertEquals("A categoria mais assistida", actualUpdated.getDescription());
+        Assertions.assertFalse(actualUpdated.isActive());
+        Assertions.assertNotNull(actualUpdated.getDeletedAt());
+        Assertions.assertEquals(1, actualUpdated.getVersion());
+    }
+}
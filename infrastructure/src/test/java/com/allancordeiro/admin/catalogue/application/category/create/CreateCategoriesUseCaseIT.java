@@ -0,0 +1,42 @@
+package com.allancordeiro.admin.catalogue.application.category.create;
+
+import com.allancordeiro.admin.catalogue.IntegrationTest;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+@IntegrationTest
+public class CreateCategoriesUseCaseIT {
+    @Autowired
+    private CreateCategoriesUseCase useCase;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateCategories_thenShouldPersistOnlyValidOnes() {
+        final var expectedErrorMessage = "'name' should not be empty";
+
+        Assertions.assertEquals(0, categoryRepository.count());
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with("", null, true),
+                CreateCategoryCommand.with("Séries", null, false)
+        ));
+
+        final var actualOutput = useCase.execute(command).get();
+
+        Assertions.assertEquals(2, categoryRepository.count());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.items().get(1).errors().get(0).message());
+
+        final var actualCategory =
+                categoryRepository.findById(UUID.fromString(actualOutput.items().get(2).id())).get();
+
+        Assertions.assertEquals("Séries", actualCategory.getName());
+        Assertions.assertFalse(actualCategory.isActive());
+        Assertions.assertNotNull(actualCategory.getDeletedAt());
+    }
+}
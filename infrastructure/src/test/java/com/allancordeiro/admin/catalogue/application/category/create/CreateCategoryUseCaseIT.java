@@ -1,9 +1,11 @@
 package com.allancordeiro.admin.catalogue.application.category.create;
 
 import com.allancordeiro.admin.catalogue.IntegrationTest;
+import com.allancordeiro.admin.catalogue.SqlStatementCounter;
 import com.allancordeiro.admin.catalogue.domain.category.Category;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
 import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -11,6 +13,10 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
+import javax.persistence.EntityManagerFactory;
+
+import java.util.UUID;
+
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 
 
@@ -20,6 +26,8 @@ public class CreateCategoryUseCaseIT {
     private CreateCategoryUseCase useCase;
     @Autowired
     private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @SpyBean
     private CategoryGateway categoryGateway;
@@ -38,7 +46,7 @@ public class CreateCategoryUseCaseIT {
         Assertions.assertNotNull(actualOutput.id());
         Assertions.assertEquals(1, categoryRepository.count());
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
 
         Assertions.assertNotNull(actualCategory.getId());
@@ -83,7 +91,7 @@ public class CreateCategoryUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
 
         Assertions.assertNotNull(actualCategory.getId());
@@ -114,4 +122,14 @@ public class CreateCategoryUseCaseIT {
 
     }
 
+    @Test
+    public void givenAValidCommand_whenCallsCreateCategory_thenShouldExecuteASingleStatement() {
+        final var statements = new SqlStatementCounter(entityManagerFactory);
+        final var command = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+
+        statements.reset();
+        useCase.execute(command).get();
+
+        Assertions.assertEquals(1, statements.count());
+    }
 }
@@ -1,6 +1,7 @@
 package com.allancordeiro.admin.catalogue.application.category.delete;
 
 import com.allancordeiro.admin.catalogue.IntegrationTest;
+import com.allancordeiro.admin.catalogue.SqlStatementCounter;
 import com.allancordeiro.admin.catalogue.domain.category.Category;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
@@ -12,6 +13,8 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
+import javax.persistence.EntityManagerFactory;
+
 import java.util.Arrays;
 
 @IntegrationTest
@@ -20,6 +23,8 @@ public class DeleteCategoryUseCaseIT {
     private DeleteCategoryUseCase useCase;
     @Autowired
     private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
     @SpyBean
     private CategoryGateway categoryGateway;
 
@@ -56,6 +61,19 @@ public class DeleteCategoryUseCaseIT {
         Assertions.assertEquals(0, categoryRepository.count());
     }
 
+    @Test
+    public void givenAValidId_whenCallsDeleteCategory_thenShouldExecuteASingleStatement() {
+        final var statements = new SqlStatementCounter(entityManagerFactory);
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        save(category);
+
+        statements.reset();
+        useCase.execute(category.getId().getValue());
+
+        Assertions.assertEquals(1, statements.count());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
     private void save(final Category... category) {
         categoryRepository.saveAllAndFlush(
                 Arrays.stream(category)
@@ -0,0 +1,47 @@
+package com.allancordeiro.admin.catalogue.application.category.retrieve.get;
+
+import com.allancordeiro.admin.catalogue.IntegrationTest;
+import com.allancordeiro.admin.catalogue.SqlStatementCounter;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryJpaEntity;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+@IntegrationTest
+public class GetCategoriesByIdsUseCaseIT {
+    @Autowired
+    private GetCategoriesByIdsUseCase useCase;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void givenStoredAndMissingIds_whenCallsGetCategoriesByIds_shouldResolveThemWithOneQuery() {
+        final var statements = new SqlStatementCounter(entityManagerFactory);
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var missing = CategoryId.unique().getValue();
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        statements.reset();
+        final var actualOutput = useCase.execute(List.of(
+                series.getId().getValue(),
+                missing,
+                filmes.getId().getValue()
+        ));
+
+        Assertions.assertEquals(1, statements.count());
+        Assertions.assertEquals(
+                List.of(series.getId(), filmes.getId()),
+                actualOutput.items().stream().map(CategoryOutput::id).toList()
+        );
+        Assertions.assertEquals(List.of(missing), actualOutput.missing());
+    }
+}
@@ -1,12 +1,14 @@
 package com.allancordeiro.admin.catalogue.application.category.update;
 
 import com.allancordeiro.admin.catalogue.IntegrationTest;
+import com.allancordeiro.admin.catalogue.SqlStatementCounter;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.get.CategoryOutput;
 import com.allancordeiro.admin.catalogue.domain.category.Category;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
 import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
 import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
 import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryJpaEntity;
 import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
@@ -16,8 +18,11 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
+import javax.persistence.EntityManagerFactory;
+
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 
@@ -27,6 +32,8 @@ public class UpdateCategoryUseCaseIT {
     private UpdateCategoryUseCase useCase;
     @Autowired
     private CategoryRepository categoryRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
     @SpyBean
     private CategoryGateway categoryGateway;
 
@@ -48,7 +55,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertEquals(1, categoryRepository.count());
         final var actualOutput = useCase.execute(command).get();
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         Assertions.assertNotNull(actualCategory.getId());
         Assertions.assertEquals(expectedName, actualCategory.getName());
@@ -106,7 +113,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertNotNull(actualOutput.id());
 
-        final var actualCategory = categoryRepository.findById(actualOutput.id()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         Assertions.assertNotNull(actualCategory.getId());
         Assertions.assertEquals(expectedName, actualCategory.getName());
@@ -139,7 +146,7 @@ public class UpdateCategoryUseCaseIT {
         final var notification = useCase.execute(command).getLeft();
         Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        final var actualCategory = categoryRepository.findById(expectedId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(expectedId.toUUID().orElseThrow()).get();
 
         Assertions.assertNotNull(actualCategory.getId());
         Assertions.assertEquals(category.getName(), actualCategory.getName());
@@ -173,6 +180,62 @@ public class UpdateCategoryUseCaseIT {
 
     }
 
+    @Test
+    public void givenAValidCommand_whenCallsUpdateCategory_thenShouldExecuteOneReadAndOneWrite() {
+        final var statements = new SqlStatementCounter(entityManagerFactory);
+        final var category = Category.newCategory("Film", null, true);
+        save(category);
+
+        final var command = UpdateCategoryCommand.with(
+                category.getId().getValue(),
+                "Filmes",
+                "A categoria mais assistida",
+                false);
+
+        statements.reset();
+        useCase.execute(command).get();
+
+        Assertions.assertEquals(2, statements.count());
+        Assertions.assertFalse(categoryRepository.findById(category.getId().toUUID().orElseThrow()).get().isActive());
+    }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenCallsUpdateCategory_thenShouldKeepTheStoredRow() {
+        final var category = Category.newCategory("Film", null, true);
+        save(category);
+
+        useCase.execute(UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true, 0L)).get();
+
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Séries", null, true, 0L);
+        Assertions.assertThrows(StaleVersionException.class, () -> useCase.execute(command));
+
+        final var actualEntity = categoryRepository.findById(category.getId().toUUID().orElseThrow()).get();
+        Assertions.assertEquals("Filmes", actualEntity.getName());
+        Assertions.assertEquals(1, actualEntity.getVersion());
+    }
+
+    @Test
+    public void givenAnUnchangedCommand_whenCallsUpdateCategory_thenShouldOnlyRead() {
+        final var statements = new SqlStatementCounter(entityManagerFactory);
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        save(category);
+
+        final var command = UpdateCategoryCommand.with(
+                category.getId().getValue(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive());
+
+        statements.reset();
+        useCase.execute(command).get();
+
+        Assertions.assertEquals(1, statements.count());
+        Assertions.assertEquals(
+                category.getUpdatedAt(),
+                categoryRepository.findById(category.getId().toUUID().orElseThrow()).get().getUpdatedAt()
+        );
+    }
+
     private void save(final Category... category) {
         categoryRepository.saveAllAndFlush(
                 Arrays.stream(category)
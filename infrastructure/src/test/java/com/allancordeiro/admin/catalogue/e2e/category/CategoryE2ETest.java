@@ -139,15 +139,15 @@ public class CategoryE2ETest {
     }
 
     @Test
-    public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
+    public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByActiveDesc() throws Exception {
         Assertions.assertTrue(MY_SQL_CONTAINER.isRunning());
         Assertions.assertEquals(0, categoryRepository.count());
 
         givenCategory("Filmes", "C", true);
-        givenCategory("Documentários", "Z", true);
+        givenCategory("Documentários", "Z", false);
         givenCategory("Séries", "A", true);
 
-        listCategories(0, 3, "", "description", "desc")
+        listCategories(0, 3, "", "active", "desc")
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.current_page").value(0))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.per_page").value(3))
@@ -155,7 +155,7 @@ public class CategoryE2ETest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.items.length()").value(3))
                 .andExpect(
                         MockMvcResultMatchers.jsonPath("$.items[0].name")
-                                .value("Documentários")
+                                .value("Séries")
                 )
                 .andExpect(
                         MockMvcResultMatchers.jsonPath("$.items[1].name")
@@ -163,7 +163,19 @@ public class CategoryE2ETest {
                 )
                 .andExpect(
                         MockMvcResultMatchers.jsonPath("$.items[2].name")
-                                .value("Séries")
+                                .value("Documentários")
+                );
+    }
+
+    @Test
+    public void asACatalogAdminIShouldSeeATreatedErrorBySortingByAnUnsupportedField() throws Exception {
+        Assertions.assertTrue(MY_SQL_CONTAINER.isRunning());
+
+        listCategories(0, 3, "", "description", "desc")
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(
+                        MockMvcResultMatchers.jsonPath("$.errors[0].message")
+                                .value("'sort' description is not supported")
                 );
     }
 
@@ -224,7 +236,7 @@ public class CategoryE2ETest {
         this.mvc.perform(request)
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(actualId.toUUID().orElseThrow()).get();
 
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
@@ -255,7 +267,7 @@ public class CategoryE2ETest {
         this.mvc.perform(request)
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(actualId.toUUID().orElseThrow()).get();
 
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
@@ -286,7 +298,7 @@ public class CategoryE2ETest {
         this.mvc.perform(request)
                 .andExpect(MockMvcResultMatchers.status().isOk());
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(actualId.toUUID().orElseThrow()).get();
 
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
@@ -313,7 +325,7 @@ public class CategoryE2ETest {
                 )
                 .andExpect(MockMvcResultMatchers.status().isNoContent());
 
-        Assertions.assertFalse(this.categoryRepository.existsById(actualId.getValue()));
+        Assertions.assertFalse(this.categoryRepository.existsById(actualId.toUUID().orElseThrow()));
     }
 
 
@@ -0,0 +1,98 @@
+package com.allancordeiro.admin.catalogue.e2e.category;
+
+import com.allancordeiro.admin.catalogue.E2ETest;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.infrastructure.category.BatchingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+@E2ETest
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CategoryFindByIdBatchingBenchmarkTest {
+    private static final int ROWS = 10_000;
+    private static final int THREADS = 128;
+    private static final int LOOKUPS_PER_THREAD = 200;
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER =
+            new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Test
+    public void givenHighConcurrency_whenLookingUpDistinctIds_thenShouldReportThroughput() throws Exception {
+        final var categories = new ArrayList<Category>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            categories.add(Category.newCategory("Category " + i, null, true));
+        }
+        categoryMySQLGateway.createAll(categories);
+        final var ids = categories.stream().map(Category::getId).toList();
+
+        final var direct = lookup(categoryMySQLGateway, ids);
+        final var batching = new BatchingCategoryGateway(categoryMySQLGateway, Duration.ofMillis(2), 100);
+        final var batched = lookup(batching, ids);
+
+        System.out.printf(
+                "direct: %.0f lookups/s, batched: %.0f lookups/s in %d queries%n",
+                direct,
+                batched,
+                batching.batches()
+        );
+        Assertions.assertTrue(batching.batches() < (long) THREADS * LOOKUPS_PER_THREAD);
+    }
+
+    private double lookup(final CategoryGateway gateway, final List<CategoryId> ids) throws Exception {
+        final var found = new LongAdder();
+        final var tasks = new ArrayList<Callable<Void>>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                final var random = ThreadLocalRandom.current();
+                for (int j = 0; j < LOOKUPS_PER_THREAD; j++) {
+                    gateway.findById(ids.get(random.nextInt(ids.size()))).ifPresent(it -> found.increment());
+                }
+                return null;
+            });
+        }
+
+        final var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final var start = System.nanoTime();
+            for (final var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+            final var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            Assertions.assertEquals((long) THREADS * LOOKUPS_PER_THREAD, found.sum());
+            return THREADS * LOOKUPS_PER_THREAD / seconds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
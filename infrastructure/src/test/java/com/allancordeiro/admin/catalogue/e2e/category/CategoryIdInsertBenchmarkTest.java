@@ -0,0 +1,92 @@
+package com.allancordeiro.admin.catalogue.e2e.category;
+
+import com.allancordeiro.admin.catalogue.E2ETest;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.utils.InstantUtils;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryJpaEntity;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@E2ETest
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CategoryIdInsertBenchmarkTest {
+    private static final int ROWS = 50_000;
+    private static final int WARM_UP_ROWS = 10_000;
+    private static final int ROUNDS = 4;
+    private static final int BATCH = 1_000;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER =
+            new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+    }
+
+    // rounds alternate which kind of id goes first, so neither always runs on the warmer server
+    @Test
+    public void givenRandomAndTimeOrderedIds_whenInsertingCategories_thenShouldReportThroughput() {
+        final Supplier<CategoryId> randomIds = () -> CategoryId.from(UUID.randomUUID());
+        final Supplier<CategoryId> timeOrderedIds = CategoryId::unique;
+
+        insert(randomIds, WARM_UP_ROWS);
+        insert(timeOrderedIds, WARM_UP_ROWS);
+
+        var random = 0.0;
+        var timeOrdered = 0.0;
+        for (int round = 0; round < ROUNDS; round++) {
+            if (round % 2 == 0) {
+                random += insert(randomIds, ROWS);
+                timeOrdered += insert(timeOrderedIds, ROWS);
+            } else {
+                timeOrdered += insert(timeOrderedIds, ROWS);
+                random += insert(randomIds, ROWS);
+            }
+        }
+
+        System.out.printf(
+                "random ids: %.0f rows/s, time-ordered ids: %.0f rows/s%n",
+                random / ROUNDS,
+                timeOrdered / ROUNDS
+        );
+        Assertions.assertEquals(ROWS, categoryRepository.count());
+    }
+
+    // goes through insertAll, the persist path the gateway uses, on an empty table
+    private double insert(final Supplier<CategoryId> ids, final int rows) {
+        categoryRepository.deleteAllInBatch();
+        final var start = System.nanoTime();
+        for (int i = 0; i < rows; i += BATCH) {
+            final var batch = new ArrayList<CategoryJpaEntity>(BATCH);
+            for (int j = 0; j < BATCH; j++) {
+                final var now = InstantUtils.now();
+                batch.add(CategoryJpaEntity.from(
+                        Category.with(ids.get(), "Category " + (i + j), null, true, now, now, null)
+                ));
+            }
+            categoryRepository.insertAll(batch, BATCH);
+        }
+        return rows / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.allancordeiro.admin.catalogue.e2e.category;
+
+import com.allancordeiro.admin.catalogue.E2ETest;
+import com.allancordeiro.admin.catalogue.application.category.update.DefaultUpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.update.SerializedUpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryCommand;
+import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.utils.StripedLock;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryMySQLGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+@E2ETest
+@Testcontainers
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CategoryUpdateContentionBenchmarkTest {
+    private static final int HOT_IDS = 4;
+    private static final int THREADS = 64;
+    private static final int UPDATES_PER_THREAD = 50;
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Container
+    private static final MySQLContainer MY_SQL_CONTAINER =
+            new MySQLContainer("mysql:latest")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MY_SQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Test
+    public void givenHotCategories_whenUpdatedConcurrently_thenShouldReportThroughputAndConflicts() throws Exception {
+        final var categories = new ArrayList<Category>(HOT_IDS);
+        for (int i = 0; i < HOT_IDS; i++) {
+            categories.add(Category.newCategory("Category " + i, null, true));
+        }
+        categoryMySQLGateway.createAll(categories);
+        final var ids = categories.stream().map(Category::getId).toList();
+
+        final var direct = new DefaultUpdateCategoryUseCase(categoryMySQLGateway);
+        final var directResult = update(direct, ids);
+        final var serialized = new SerializedUpdateCategoryUseCase(direct, new StripedLock(1024));
+        final var serializedResult = update(serialized, ids);
+
+        System.out.printf(
+                "direct: %.0f updates/s, %d conflicts; serialized: %.0f updates/s, %d conflicts, %d waits%n",
+                directResult.throughput(),
+                directResult.conflicts(),
+                serializedResult.throughput(),
+                serializedResult.conflicts(),
+                serialized.contended()
+        );
+        Assertions.assertEquals(0, serializedResult.conflicts());
+    }
+
+    private Result update(final UpdateCategoryUseCase useCase, final List<CategoryId> ids) throws Exception {
+        final var conflicts = new LongAdder();
+        final var tasks = new ArrayList<Callable<Void>>(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                final var random = ThreadLocalRandom.current();
+                for (int j = 0; j < UPDATES_PER_THREAD; j++) {
+                    final var id = ids.get(random.nextInt(ids.size())).getValue();
+                    try {
+                        useCase.execute(UpdateCategoryCommand.with(id, "Category " + random.nextInt(), null, true));
+                    } catch (final StaleVersionException ex) {
+                        conflicts.increment();
+                    }
+                }
+                return null;
+            });
+        }
+
+        final var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final var start = System.nanoTime();
+            for (final var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+            final var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return new Result(THREADS * UPDATES_PER_THREAD / seconds, conflicts.sum());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private record Result(double throughput, long conflicts) {
+    }
+}
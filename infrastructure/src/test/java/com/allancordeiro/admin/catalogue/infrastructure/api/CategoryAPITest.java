@@ -1,13 +1,25 @@
 package com.allancordeiro.admin.catalogue.infrastructure.api;
 
 import com.allancordeiro.admin.catalogue.ControllerTest;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesCommand;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesOutput;
+import com.allancordeiro.admin.catalogue.application.category.bulk.BulkCategoriesUseCase;
 import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoryCommand;
 import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoryOutput;
 import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoryUseCase;
 import com.allancordeiro.admin.catalogue.application.category.delete.DeleteCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.export.ExportCategoriesCommand;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.CategoriesByIdsOutput;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.get.CategoryOutput;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.CategoryVersionOutput;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoryVersionUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.CategoryCatalogueVersionOutput;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.list.CategoryListOutput;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.GetCategoryCatalogueVersionUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.ListCategoriesByCursorUseCase;
 import com.allancordeiro.admin.catalogue.application.category.retrieve.list.ListCategoriesUseCase;
 import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryCommand;
 import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryOutput;
@@ -17,29 +29,51 @@ import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
 import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
 import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
 import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
+import com.allancordeiro.admin.catalogue.domain.pagination.CursorPagination;
 import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
 import com.allancordeiro.admin.catalogue.domain.validation.Error;
 import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryHttpCaching;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CategoryResponseCache;
+import com.allancordeiro.admin.catalogue.infrastructure.idempotency.IdempotencyKeyInProgressException;
+import com.allancordeiro.admin.catalogue.infrastructure.idempotency.IdempotencyStore;
 import com.allancordeiro.admin.catalogue.infrastructure.category.models.CreateCategoryRequest;
 import com.allancordeiro.admin.catalogue.infrastructure.category.models.UpdateCategoryRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vavr.API;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
 @ControllerTest(controllers = CategoryAPI.class)
+@Import({CategoryResponseCache.class, CategoryHttpCaching.class})
+@TestPropertySource(properties = "category.response-cache.enabled=true")
 public class CategoryAPITest {
     @Autowired
     private MockMvc mvc;
@@ -51,12 +85,36 @@ public class CategoryAPITest {
     @MockBean
     private GetCategoryByIdUseCase  getCategoryByIdUseCase;
     @MockBean
+    private GetCategoryVersionUseCase getCategoryVersionUseCase;
+    @MockBean
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+    @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
+    @MockBean
+    private ListCategoriesByCursorUseCase listCategoriesByCursorUseCase;
+    @MockBean
+    private GetCategoryCatalogueVersionUseCase getCategoryCatalogueVersionUseCase;
+    @MockBean
+    private IdempotencyStore idempotencyStore;
+    @MockBean
+    private BulkCategoriesUseCase bulkCategoriesUseCase;
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @Autowired
+    private CategoryResponseCache responseCache;
+
+    @BeforeEach
+    void cleanUp() {
+        responseCache.invalidate();
+        Mockito.when(getCategoryCatalogueVersionUseCase.execute())
+                .thenReturn(new CategoryCatalogueVersionOutput(1, 0, Instant.now()));
+    }
 
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
@@ -90,6 +148,270 @@ public class CategoryAPITest {
         Assertions.assertEquals(expectedIsActive, insertedCategory.isActive());
     }
 
+    @Test
+    public void givenAnIdempotencyKey_whenCallsCreateCategory_shouldReturnTheStoredCategoryId() throws Exception {
+        final var expectedKey = "3f1c1d5e-retry";
+        final var input = new CreateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        Mockito.when(idempotencyStore.execute(
+                Mockito.eq("categories:create"),
+                Mockito.eq(expectedKey),
+                Mockito.anyString(),
+                Mockito.any()
+        )).thenReturn(API.Right("123"));
+
+        final var request = MockMvcRequestBuilders.post("/categories")
+                .header("Idempotency-Key", expectedKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.header().string("Location", "/categories/123"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo("123")));
+
+        Mockito.verify(createCategoryUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAnIdempotencyKeyStillRunning_whenCallsCreateCategory_shouldReturnConflict() throws Exception {
+        final var expectedKey = "3f1c1d5e-retry";
+        final var expectedMessage = "A request with Idempotency-Key 3f1c1d5e-retry is still being processed";
+        final var input = new CreateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        Mockito.when(idempotencyStore.execute(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenThrow(IdempotencyKeyInProgressException.with(expectedKey));
+
+        final var request = MockMvcRequestBuilders.post("/categories")
+                .header("Idempotency-Key", expectedKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage)));
+    }
+
+    @Test
+    public void givenMixedOperations_whenCallsBulk_shouldStreamAStatusPerItem() throws Exception {
+        final var updatedId = "0190b2c4-7e7e-7a0a-8000-000000000001";
+        final var body = """
+                [
+                  {"op": "create", "name": "Filmes", "description": "A categoria mais assistida"},
+                  {"op": "update", "id": "%s", "name": "", "is_active": false},
+                  {"op": "delete", "id": "%s"}
+                ]
+                """.formatted(updatedId, updatedId);
+
+        Mockito.when(bulkCategoriesUseCase.execute(Mockito.any()))
+                .thenAnswer(invocation -> {
+                    final BulkCategoriesCommand command = invocation.getArgument(0);
+                    return new BulkCategoriesOutput(IntStream.range(0, command.operations().size())
+                            .mapToObj(i -> i == 1
+                                    ? BulkCategoriesOutput.Item.failed(i, "update", updatedId,
+                                            BulkCategoriesOutput.Status.INVALID, new Error("'name' should not be empty"))
+                                    : BulkCategoriesOutput.Item.succeeded(i, command.operations().get(i).op(), "id-" + i))
+                            .toList());
+                });
+
+        final var request = MockMvcRequestBuilders.post("/categories/_bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+
+        final var started = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].status", Matchers.equalTo(201)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].index", Matchers.equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].status", Matchers.equalTo(422)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].errors[0].message", Matchers.equalTo("'name' should not be empty")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[2].status", Matchers.equalTo(204)));
+
+        // the delete repeats the id of the update, so it goes into its own chunk
+        final var captor = ArgumentCaptor.forClass(BulkCategoriesCommand.class);
+        Mockito.verify(bulkCategoriesUseCase, Mockito.times(2)).execute(captor.capture());
+        Assertions.assertEquals(2, captor.getAllValues().get(0).operations().size());
+        Assertions.assertFalse(captor.getAllValues().get(0).operations().get(1).isActive());
+        Assertions.assertEquals("delete", captor.getAllValues().get(1).operations().get(0).op());
+    }
+
+    @Test
+    public void givenAMalformedOperation_whenCallsBulk_shouldApplyTheOnesBeforeAndReportIt() throws Exception {
+        final var body = "[{\"op\": \"create\", \"name\": \"Filmes\"}, 42]";
+
+        Mockito.when(bulkCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new BulkCategoriesOutput(List.of(BulkCategoriesOutput.Item.succeeded(0, "create", "123"))));
+
+        final var request = MockMvcRequestBuilders.post("/categories/_bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+
+        final var started = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", Matchers.equalTo("123")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].index", Matchers.equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].status", Matchers.equalTo(422)));
+    }
+
+    @Test
+    public void givenABodyThatIsNotAnArray_whenCallsBulk_shouldReturnUnprocessableEntity() throws Exception {
+        final var request = MockMvcRequestBuilders.post("/categories/_bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"op\": \"create\"}");
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo("the body should be an array of operations")));
+
+        Mockito.verify(bulkCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenStoredCategories_whenCallsExportAsNdjson_shouldStreamOneJsonObjectPerLine() throws Exception {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Series", null, false);
+        mockExport(filmes, series);
+
+        final var started = this.mvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", "application/x-ndjson"))
+                .andReturn().getResponse();
+
+        final var lines = response.getContentAsString().split("\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(filmes.getId().getValue(), this.mapper.readTree(lines[0]).get("id").asText());
+        Assertions.assertEquals("A categoria mais assistida", this.mapper.readTree(lines[0]).get("description").asText());
+        Assertions.assertFalse(this.mapper.readTree(lines[1]).get("is_active").asBoolean());
+
+        final var captor = ArgumentCaptor.forClass(ExportCategoriesCommand.class);
+        Mockito.verify(exportCategoriesUseCase, Mockito.times(1)).execute(captor.capture());
+        Assertions.assertNull(captor.getValue().updatedSince());
+    }
+
+    @Test
+    public void givenUpdatedSince_whenCallsExportAsCsv_shouldStreamAHeaderAndEscapedRows() throws Exception {
+        final var expectedUpdatedSince = Instant.parse("2022-06-01T10:15:30Z");
+        final var filmes = Category.newCategory("Filmes", "Com \"aspas\", e vírgula", true);
+        mockExport(filmes);
+
+        final var request = MockMvcRequestBuilders.get("/categories/export")
+                .queryParam("format", "csv")
+                .queryParam("updatedSince", expectedUpdatedSince.toString());
+
+        final var started = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andReturn().getResponse();
+
+        final var lines = response.getContentAsString(StandardCharsets.UTF_8).split("\r\n");
+        Assertions.assertEquals("id,name,description,is_active,created_at,updated_at,deleted_at", lines[0]);
+        Assertions.assertEquals(
+                "%s,Filmes,\"Com \"\"aspas\"\", e vírgula\",true,%s,%s,".formatted(
+                        filmes.getId().getValue(), filmes.getCreatedAt(), filmes.getUpdatedAt()),
+                lines[1]
+        );
+
+        final var captor = ArgumentCaptor.forClass(ExportCategoriesCommand.class);
+        Mockito.verify(exportCategoriesUseCase, Mockito.times(1)).execute(captor.capture());
+        Assertions.assertEquals(expectedUpdatedSince, captor.getValue().updatedSince());
+    }
+
+    @Test
+    public void givenAnUnknownFormat_whenCallsExport_shouldReturnUnprocessableEntity() throws Exception {
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories/export").queryParam("format", "xml"))
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo("'format' xml is not supported")));
+
+        Mockito.verify(exportCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAnInvalidUpdatedSince_whenCallsExport_shouldReturnUnprocessableEntity() throws Exception {
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories/export").queryParam("updatedSince", "yesterday"))
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath(
+                        "$.message", Matchers.equalTo("'updatedSince' should be an ISO-8601 instant")));
+
+        Mockito.verify(exportCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAnExport_whenCallsExport_shouldUseTheExportTimeout() throws Exception {
+        mockExport();
+
+        final var started = this.mvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        Assertions.assertEquals(Duration.ofMinutes(10).toMillis(), started.getRequest().getAsyncContext().getTimeout());
+        this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void givenTheMaximumOfExportsRunning_whenCallsExport_shouldReturnServiceUnavailable() throws Exception {
+        final var expectedMessage = "4 category exports are already running, retry later";
+        final var finish = new CountDownLatch(1);
+        Mockito.when(exportCategoriesUseCase.execute(Mockito.any())).thenAnswer(invocation -> {
+            finish.await();
+            return 0L;
+        });
+
+        final var running = new ArrayList<MvcResult>();
+        for (int i = 0; i < 4; i++) {
+            running.add(this.mvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+                    .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                    .andReturn());
+        }
+
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedMessage)));
+
+        finish.countDown();
+        for (final var started : running) {
+            this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                    .andExpect(MockMvcResultMatchers.status().isOk());
+        }
+
+        // the finished exports gave their permits back
+        final var started = this.mvc.perform(MockMvcRequestBuilders.get("/categories/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(started))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    private void mockExport(final Category... categories) {
+        Mockito.when(exportCategoriesUseCase.execute(Mockito.any())).thenAnswer(invocation -> {
+            final ExportCategoriesCommand command = invocation.getArgument(0);
+            Arrays.stream(categories).map(CategoryOutput::from).forEach(command.consumer());
+            return (long) categories.length;
+        });
+    }
+
     @Test
     public void givenAnIvalidName_whenCallsCreateCategory_shouldReturnNotificationError() throws Exception {
         final String expectedName = null;
@@ -215,6 +537,52 @@ public class CategoryAPITest {
                 );
     }
 
+    @Test
+    public void givenASetOfIds_whenCallsGetCategoriesByIds_shouldReturnFoundAndMissing() throws Exception {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var expectedMissing = CategoryId.unique().getValue();
+        final var expectedIds = List.of(filmes.getId().getValue(), expectedMissing, series.getId().getValue());
+
+        Mockito.when(getCategoriesByIdsUseCase.execute(Mockito.any()))
+                .thenReturn(new CategoriesByIdsOutput(
+                        List.of(CategoryOutput.from(filmes), CategoryOutput.from(series)),
+                        List.of(expectedMissing)
+                ));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("ids", String.join(",", expectedIds))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo(filmes.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].id", Matchers.equalTo(series.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missing", Matchers.contains(expectedMissing)));
+
+        Mockito.verify(getCategoriesByIdsUseCase, Mockito.times(1)).execute(Mockito.eq(expectedIds));
+        Mockito.verify(listCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsGetCategoriesByIds_shouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "'ids' must have at most 100 entries";
+
+        Mockito.when(getCategoriesByIdsUseCase.execute(Mockito.any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("ids", "a,b")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAValidCommand_whenCallsUpdateCategory_thenShouldReturnCategoryId() throws Exception {
         final var expectedId = "123";
@@ -247,6 +615,81 @@ public class CategoryAPITest {
         Assertions.assertEquals(expectedIsActive, updatedCategory.isActive());
     }
 
+    @Test
+    public void givenAnIfMatchETag_whenCallsUpdateCategory_thenShouldPassItsVersion() throws Exception {
+        final var expectedId = CategoryId.unique().getValue();
+        final var expectedVersion = 4L;
+
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId)));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"%s-%d\"".formatted(expectedId, expectedVersion))
+                .content(this.mapper.writeValueAsString(new UpdateCategoryRequest("Filmes", null, true)));
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        final var captor = ArgumentCaptor.forClass(UpdateCategoryCommand.class);
+        Mockito.verify(updateCategoryUseCase, Mockito.times(1)).execute(captor.capture());
+        Assertions.assertEquals(expectedVersion, captor.getValue().expectedVersion());
+    }
+
+    @Test
+    public void givenAGzipIfMatchETag_whenCallsUpdateCategory_thenShouldPassItsVersion() throws Exception {
+        final var expectedId = CategoryId.unique().getValue();
+        final var expectedVersion = 4L;
+
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId)));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"%s-%d-gzip\"".formatted(expectedId, expectedVersion))
+                .content(this.mapper.writeValueAsString(new UpdateCategoryRequest("Filmes", null, true)));
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        final var captor = ArgumentCaptor.forClass(UpdateCategoryCommand.class);
+        Mockito.verify(updateCategoryUseCase, Mockito.times(1)).execute(captor.capture());
+        Assertions.assertEquals(expectedVersion, captor.getValue().expectedVersion());
+    }
+
+    @Test
+    public void givenAnIfMatchOfAnotherCategory_whenCallsUpdateCategory_thenShouldReturnPreconditionFailed() throws Exception {
+        final var expectedId = CategoryId.unique().getValue();
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"%s-0\"".formatted(CategoryId.unique().getValue()))
+                .content(this.mapper.writeValueAsString(new UpdateCategoryRequest("Filmes", null, true)));
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+        Mockito.verify(updateCategoryUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdateCategory_thenShouldReturnPreconditionFailed() throws Exception {
+        final var expectedId = CategoryId.unique();
+        final var expectedErrorMessage = "Category with ID %s was modified by another request".formatted(expectedId.getValue());
+
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(StaleVersionException.with(Category.class, expectedId));
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId.getValue())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, "\"%s-1\"".formatted(expectedId.getValue()))
+                .content(this.mapper.writeValueAsString(new UpdateCategoryRequest("Filmes", null, true)));
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenACommandWithInvalidId_whenCallsUpdateCategory_shouldReturnNotFoundException() throws Exception {
         final var expectedId = "not-found";
@@ -404,8 +847,301 @@ public class CategoryAPITest {
         Assertions.assertEquals(expectedDirection, actualQuery.direction());
         Assertions.assertEquals(expectedSort, actualQuery.sort());
         Assertions.assertEquals(expectedTerms, actualQuery.terms());
+        Assertions.assertEquals("contains", actualQuery.mode());
+
+    }
+
+    @Test
+    public void givenACursor_whenCallsListCategories_shouldReturnCategoriesAndNextCursor() throws Exception {
+        final var category = Category.newCategory("Movies", "movies", true);
+        final var expectedPerPage = 1;
+        final var expectedCursor = "bmFtZQ";
+        final var expectedNextCursor = "bmV4dA";
+        final var expectedSort = "name";
+        final var expectedDirection = "asc";
+        final var expectedItems = List.of(CategoryListOutput.from(category));
+
+        Mockito.when(listCategoriesByCursorUseCase.execute(Mockito.any()))
+                .thenReturn(new CursorPagination<>(expectedPerPage, expectedNextCursor, expectedItems));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("sort", expectedSort)
+                .queryParam("dir", expectedDirection)
+                .queryParam("cursor", expectedCursor)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.per_page", Matchers.equalTo(expectedPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next_cursor", Matchers.equalTo(expectedNextCursor)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(1)))
+                .andExpect(
+                        MockMvcResultMatchers.jsonPath("$.items[0].id",
+                                Matchers.equalTo(category.getId().getValue()))
+                );
+
+        final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+        Mockito.verify(listCategoriesByCursorUseCase, Mockito.times(1)).execute(captor.capture());
+        Mockito.verify(listCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+        final var actualQuery = captor.getValue();
+
+        Assertions.assertEquals(expectedPerPage, actualQuery.perPage());
+        Assertions.assertEquals(expectedSort, actualQuery.sort());
+        Assertions.assertEquals(expectedDirection, actualQuery.direction());
+        Assertions.assertEquals(expectedCursor, actualQuery.cursor());
+    }
+
+    @Test
+    public void givenWithTotalFalse_whenCallsListCategories_shouldReturnSliceWithoutTotal() throws Exception {
+        final var category = Category.newCategory("Movies", "movies", true);
+        final var expectedPage = 0;
+        final var expectedPerPage = 1;
+        final var expectedItems = List.of(CategoryListOutput.from(category));
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(Pagination.slice(expectedPage, expectedPerPage, expectedItems, true));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("page", String.valueOf(expectedPage))
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("withTotal", "false")
+                .contentType(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.current_page", Matchers.equalTo(expectedPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.per_page", Matchers.equalTo(expectedPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(-1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.has_next", Matchers.equalTo(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(1)));
+
+        final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1)).execute(captor.capture());
+
+        Assertions.assertFalse(captor.getValue().withTotal());
+    }
+
+    @Test
+    public void givenAGzipClient_whenCallsGetCategory_shouldReturnTheCachedGzipBytes() throws Exception {
+        final var expectedDescription = "a".repeat(4_000);
+        final var category = Category.newCategory("Filmes", expectedDescription, true);
+        final var expectedId = category.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(category));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        final var hits = responseCache.stats().hitCount();
+
+        final var first = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+        final var second = this.mvc.perform(request)
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(first))) {
+            final var actualResponse = mapper.readTree(in);
+            Assertions.assertEquals(expectedId, actualResponse.get("id").asText());
+            Assertions.assertEquals(expectedDescription, actualResponse.get("description").asText());
+        }
+        Assertions.assertArrayEquals(first, second);
+        Assertions.assertEquals(hits + 1, responseCache.stats().hitCount());
+    }
 
+    @Test
+    public void givenAGzipClient_whenCallsGetCategory_shouldTagTheGzipBytesApartFromThePlainJson() throws Exception {
+        final var category = Category.newCategory("Filmes", "a".repeat(4_000), true);
+        final var expectedId = category.getId().getValue();
+        final var expectedEtag = "\"%s-%d\"".formatted(expectedId, category.getVersion());
+        final var expectedGzipEtag = "\"%s-%d-gzip\"".formatted(expectedId, category.getVersion());
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(category));
+        Mockito.when(getCategoryVersionUseCase.execute(Mockito.any()))
+                .thenReturn(new CategoryVersionOutput(category.getId(), category.getVersion(), category.getUpdatedAt()));
+
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, expectedGzipEtag));
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories/{id}", expectedId))
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, expectedEtag));
+
+        // either form names the same version
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                        .header(HttpHeaders.IF_NONE_MATCH, expectedGzipEtag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, expectedGzipEtag));
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, expectedEtag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, expectedEtag));
     }
 
+    @Test
+    public void givenAGzipPageEtag_whenCallsListCategoriesWithoutGzip_shouldReturnNotModified() throws Exception {
+        final var categories = IntStream.range(0, 10)
+                .mapToObj(i -> CategoryListOutput.from(Category.newCategory("Filmes " + i, "a".repeat(400), true)))
+                .toList();
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 10, categories));
+
+        final var etag = this.mvc.perform(MockMvcRequestBuilders.get("/categories")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assertions.assertNotNull(etag);
+        Assertions.assertTrue(etag.endsWith("-gzip\""), etag);
 
+        this.mvc.perform(MockMvcRequestBuilders.get("/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    public void givenAClientWithoutGzip_whenCallsGetCategory_shouldReturnPlainJson() throws Exception {
+        final var category = Category.newCategory("Filmes", "a".repeat(4_000), true);
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(category));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", category.getId().getValue())
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity");
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(category.getId().getValue())));
+    }
+
+    @Test
+    public void givenACachedPage_whenCallsListCategoriesAgain_shouldNotCallTheUseCase() throws Exception {
+        final var category = Category.newCategory("Movies", "movies", true);
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(category))));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("search", "movies");
+
+        this.mvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk());
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo(category.getId().getValue())));
+        responseCache.invalidate();
+        this.mvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(listCategoriesUseCase, Mockito.times(2)).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAMatchingETag_whenCallsGetCategory_shouldReturnNotModifiedWithoutLoadingIt() throws Exception {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(category));
+        Mockito.when(getCategoryVersionUseCase.execute(Mockito.any()))
+                .thenReturn(new CategoryVersionOutput(category.getId(), category.getVersion(), category.getUpdatedAt()));
+
+        final var etag = this.mvc.perform(MockMvcRequestBuilders.get("/categories/{id}", expectedId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assertions.assertNotNull(etag);
+        Assertions.assertTrue(etag.startsWith("\"" + expectedId), etag);
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, etag);
+
+        this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        Mockito.verify(getCategoryByIdUseCase, Mockito.times(1)).execute(Mockito.any());
+        Mockito.verify(getCategoryVersionUseCase, Mockito.times(1)).execute(Mockito.eq(expectedId));
+    }
+
+    @Test
+    public void givenAStaleETag_whenCallsGetCategory_shouldReturnTheCategoryWithTheNewETag() throws Exception {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId().getValue();
+        final var staleEtag = "\"%s-1\"".formatted(expectedId);
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(category));
+        Mockito.when(getCategoryVersionUseCase.execute(Mockito.any()))
+                .thenReturn(new CategoryVersionOutput(category.getId(), category.getVersion(), category.getUpdatedAt()));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_NONE_MATCH, staleEtag);
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(staleEtag)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)));
+    }
+
+    @Test
+    public void givenAnIfModifiedSinceAfterTheUpdate_whenCallsGetCategory_shouldReturnNotModified() throws Exception {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId().getValue();
+
+        Mockito.when(getCategoryVersionUseCase.execute(Mockito.any()))
+                .thenReturn(new CategoryVersionOutput(category.getId(), category.getVersion(), category.getUpdatedAt()));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_MODIFIED_SINCE, Instant.now().plusSeconds(60).toEpochMilli());
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        Mockito.verify(getCategoryByIdUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAMatchingETag_whenCallsListCategories_shouldReturnNotModified() throws Exception {
+        final var category = Category.newCategory("Movies", "movies", true);
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(category))));
+
+        final var etag = this.mvc.perform(MockMvcRequestBuilders.get("/categories"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assertions.assertNotNull(etag);
+
+        // answered from the catalogue version, without running the query
+        responseCache.invalidate();
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .header(HttpHeaders.IF_NONE_MATCH, etag);
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1)).execute(Mockito.any());
+
+        // any write moves the catalogue version, so the same page gets a new etag
+        Mockito.when(getCategoryCatalogueVersionUseCase.execute())
+                .thenReturn(new CategoryCatalogueVersionOutput(1, 1, Instant.now()));
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+        Mockito.verify(listCategoriesUseCase, Mockito.times(2)).execute(Mockito.any());
+    }
 }
@@ -0,0 +1,131 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class BatchingCategoryGatewayTest {
+    private static final int CALLERS = 8;
+
+    private CategoryGateway delegate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryGateway.class);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentCallersFillingABatch_whenCallsFindById_thenShouldLoadThemWithOneQuery() throws Exception {
+        final var gateway = new BatchingCategoryGateway(delegate, Duration.ofSeconds(5), CALLERS);
+        final var categories = new ArrayList<Category>();
+        for (int i = 0; i < CALLERS - 1; i++) {
+            categories.add(Category.newCategory("Category " + i, null, true));
+        }
+        final var missing = CategoryId.unique();
+        Mockito.when(delegate.findAllByIds(ArgumentMatchers.any())).thenReturn(categories);
+
+        final var futures = new ArrayList<Future<Optional<Category>>>();
+        for (final var category : categories) {
+            futures.add(executor.submit(() -> gateway.findById(category.getId())));
+        }
+        final var missingFuture = executor.submit(() -> gateway.findById(missing));
+
+        for (int i = 0; i < categories.size(); i++) {
+            Assertions.assertEquals(categories.get(i).getId(), futures.get(i).get(1, TimeUnit.SECONDS).get().getId());
+        }
+        Assertions.assertTrue(missingFuture.get(1, TimeUnit.SECONDS).isEmpty());
+        Assertions.assertEquals(1, gateway.batches());
+        Mockito.verify(delegate, Mockito.times(1)).findAllByIds(ArgumentMatchers.argThat(
+                (Collection<CategoryId> ids) -> ids.size() == CALLERS
+        ));
+        Mockito.verify(delegate, Mockito.never()).findById(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void givenMoreCallersThanABatchHolds_whenCallsFindById_thenNoBatchShouldExceedTheMaximumSize() throws Exception {
+        final var maxBatchSize = 2;
+        final var gateway = new BatchingCategoryGateway(delegate, Duration.ofSeconds(5), maxBatchSize);
+        final var batchSizes = new ConcurrentLinkedQueue<Integer>();
+        Mockito.when(delegate.findAllByIds(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            final Collection<CategoryId> ids = invocation.getArgument(0);
+            batchSizes.add(ids.size());
+            return List.of();
+        });
+
+        final var futures = new ArrayList<Future<Optional<Category>>>();
+        for (int i = 0; i < CALLERS; i++) {
+            final var id = CategoryId.unique();
+            futures.add(executor.submit(() -> gateway.findById(id)));
+        }
+
+        for (final var future : futures) {
+            Assertions.assertTrue(future.get(1, TimeUnit.SECONDS).isEmpty());
+        }
+        Assertions.assertEquals(List.of(2, 2, 2, 2), List.copyOf(batchSizes));
+        Assertions.assertEquals(CALLERS / maxBatchSize, gateway.batches());
+    }
+
+    @Test
+    public void givenASingleCaller_whenTheWindowElapses_thenShouldLoadItAlone() {
+        final var gateway = new BatchingCategoryGateway(delegate, Duration.ofMillis(1), CALLERS);
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findAllByIds(List.of(category.getId()))).thenReturn(List.of(category));
+
+        final var actualCategory = gateway.findById(category.getId());
+
+        Assertions.assertEquals(category.getId(), actualCategory.get().getId());
+        Assertions.assertEquals(1, gateway.batches());
+    }
+
+    @Test
+    public void givenTheSameIdTwiceInABatch_whenCallsFindById_thenShouldHandOutDistinctInstances() throws Exception {
+        final var gateway = new BatchingCategoryGateway(delegate, Duration.ofSeconds(5), 2);
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findAllByIds(ArgumentMatchers.any())).thenReturn(List.of(category));
+
+        final var first = executor.submit(() -> gateway.findById(category.getId()));
+        final var second = executor.submit(() -> gateway.findById(category.getId()));
+
+        Assertions.assertNotSame(first.get(1, TimeUnit.SECONDS).get(), second.get(1, TimeUnit.SECONDS).get());
+        Assertions.assertEquals(1, gateway.batches());
+    }
+
+    @Test
+    public void givenAFailingBatch_whenCallsFindById_thenEveryCallerShouldSeeTheException() throws Exception {
+        final var gateway = new BatchingCategoryGateway(delegate, Duration.ofSeconds(5), 2);
+        Mockito.when(delegate.findAllByIds(ArgumentMatchers.any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        final var first = executor.submit(() -> gateway.findById(CategoryId.unique()));
+        final var second = executor.submit(() -> gateway.findById(CategoryId.unique()));
+
+        for (final var future : List.of(first, second)) {
+            final var actualException = Assertions.assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+            Assertions.assertEquals("Gateway error", actualException.getCause().getMessage());
+        }
+    }
+}
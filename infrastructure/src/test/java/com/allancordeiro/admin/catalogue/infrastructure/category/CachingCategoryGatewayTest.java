@@ -0,0 +1,233 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
+import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+public class CachingCategoryGatewayTest {
+    private final AtomicLong nanos = new AtomicLong();
+    private CategoryGateway delegate;
+    private CachingCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryGateway.class);
+        gateway = new CachingCategoryGateway(delegate, 1_048_576, 0, 1_048_576, Duration.ofMinutes(10), nanos::get);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdTwice_thenShouldHitTheDelegateOnce() {
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        final var first = gateway.findById(category.getId()).get();
+        final var second = gateway.findById(category.getId()).get();
+
+        Assertions.assertEquals(category.getId(), first.getId());
+        Assertions.assertNotSame(first, second);
+        Mockito.verify(delegate, Mockito.times(1)).findById(category.getId());
+        Assertions.assertEquals(1, gateway.stats().hitCount());
+        Assertions.assertEquals(1, gateway.stats().missCount());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallerMutatesIt_thenShouldNotLeakIntoTheCache() {
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        gateway.findById(category.getId()).get().update("Séries", null, false);
+
+        final var actualCategory = gateway.findById(category.getId()).get();
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertTrue(actualCategory.isActive());
+        Assertions.assertFalse(actualCategory.hasChanges());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsFindById_thenShouldNotCacheTheAbsence() {
+        final var id = CategoryId.unique();
+        Mockito.when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(gateway.findById(id).isEmpty());
+        Assertions.assertTrue(gateway.findById(id).isEmpty());
+
+        Mockito.verify(delegate, Mockito.times(2)).findById(id);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdateOrDelete_thenShouldInvalidateIt() {
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        gateway.findById(category.getId());
+        gateway.update(category);
+        gateway.findById(category.getId());
+        gateway.deleteById(category.getId());
+        gateway.findById(category.getId());
+        gateway.createAll(List.of(category));
+        gateway.findById(category.getId());
+
+        Mockito.verify(delegate, Mockito.times(4)).findById(category.getId());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindVersionById_thenShouldNotHitTheDelegate() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var uncached = CategoryId.unique();
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+        Mockito.when(delegate.findVersionById(uncached)).thenReturn(Optional.empty());
+
+        gateway.findById(category.getId());
+
+        Assertions.assertEquals(Optional.of(new CategoryVersion(0, category.getUpdatedAt())), gateway.findVersionById(category.getId()));
+        Assertions.assertTrue(gateway.findVersionById(uncached).isEmpty());
+        Mockito.verify(delegate, Mockito.never()).findVersionById(category.getId());
+        Mockito.verify(delegate, Mockito.times(1)).findVersionById(uncached);
+    }
+
+    @Test
+    public void givenACachedCategory_whenExpires_thenShouldReloadIt() {
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        gateway.findById(category.getId());
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        gateway.findById(category.getId());
+
+        Mockito.verify(delegate, Mockito.times(2)).findById(category.getId());
+        Assertions.assertEquals(1, gateway.stats().evictionCount());
+    }
+
+    @Test
+    public void givenACachedPage_whenCallsFindAllWithAnEqualQuery_thenShouldHitTheDelegateOnce() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var page = new Pagination<>(0, 10, 1, List.of(category));
+        Mockito.when(delegate.findAll(Mockito.any())).thenReturn(page);
+
+        final var first = gateway.findAll(new CategorySearchQuery(0, 10, "fil", "name", "asc"));
+        final var second = gateway.findAll(new CategorySearchQuery(0, 10, "fil", "name", "asc"));
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertNotSame(first.items().get(0), second.items().get(0));
+        Mockito.verify(delegate, Mockito.times(1)).findAll(Mockito.any());
+        Assertions.assertEquals(1, gateway.listStats().hitCount());
+    }
+
+    @Test
+    public void givenAPageHeavierThanTheListBound_whenCallsFindAllTwice_thenShouldNotKeepIt() {
+        final var bounded = new CachingCategoryGateway(delegate, 1_048_576, 0, 4_096, Duration.ofMinutes(10), nanos::get);
+        final var query = new CategorySearchQuery(0, 100, "", "name", "asc");
+        final var items = IntStream.range(0, 100)
+                .mapToObj(i -> Category.newCategory("Category " + i, null, true))
+                .toList();
+        Mockito.when(delegate.findAll(query)).thenReturn(new Pagination<>(0, 100, items.size(), items));
+
+        bounded.findAll(query);
+        bounded.cleanUp();
+        bounded.findAll(query);
+
+        Mockito.verify(delegate, Mockito.times(2)).findAll(query);
+    }
+
+    @Test
+    public void givenACachedPage_whenAnyWriteHappens_thenShouldReloadThePage() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        Mockito.when(delegate.findAll(query)).thenReturn(new Pagination<>(0, 10, 1, List.of(category)));
+
+        gateway.findAll(query);
+        gateway.create(Category.newCategory("Séries", null, true));
+        gateway.findAll(query);
+        gateway.update(category);
+        gateway.findAll(query);
+        gateway.deleteById(category.getId());
+        gateway.findAll(query);
+
+        Mockito.verify(delegate, Mockito.times(4)).findAll(query);
+        Assertions.assertEquals(4, gateway.listStats().missCount());
+    }
+
+    @Test
+    public void givenAPartiallyCachedSet_whenCallsFindAllByIds_thenShouldLoadOnlyTheMissingIds() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var missing = CategoryId.unique();
+        Mockito.when(delegate.findById(filmes.getId())).thenReturn(Optional.of(filmes));
+        Mockito.when(delegate.findAllByIds(Mockito.any())).thenReturn(List.of(series));
+        gateway.findById(filmes.getId());
+
+        final var actualResult = gateway.findAllByIds(List.of(filmes.getId(), series.getId(), missing));
+
+        Assertions.assertEquals(
+                List.of(filmes.getId(), series.getId()),
+                actualResult.stream().map(Category::getId).toList()
+        );
+        Assertions.assertNotSame(filmes, actualResult.get(0));
+        Mockito.verify(delegate, Mockito.times(1)).findAllByIds(Mockito.argThat(ids ->
+                ids.size() == 2 && ids.contains(series.getId()) && ids.contains(missing)
+        ));
+    }
+
+    @Test
+    public void givenAWriteDuringABulkLoad_whenCallsFindAllByIds_thenShouldNotCacheTheRowsItRead() {
+        final var tiered = new CachingCategoryGateway(delegate, 1_048_576, 1_048_576, 1_048_576, Duration.ofMinutes(10), nanos::get);
+        final var stale = Category.newCategory("Filmes", null, true);
+        final var updated = stale.clone().update("Séries", null, true);
+        Mockito.when(delegate.findAllByIds(Mockito.any())).thenAnswer(invocation -> {
+            // the row is read, then another request updates it before the load caches it
+            tiered.update(updated);
+            return List.of(stale);
+        });
+        Mockito.when(delegate.findById(stale.getId())).thenReturn(Optional.of(updated));
+
+        tiered.findAllByIds(List.of(stale.getId()));
+        final var actualCategory = tiered.findById(stale.getId()).get();
+
+        Assertions.assertEquals("Séries", actualCategory.getName());
+        Mockito.verify(delegate, Mockito.times(1)).findById(stale.getId());
+        Assertions.assertEquals(0, tiered.offHeap().get().hitCount());
+    }
+
+    @Test
+    public void givenAnOffHeapTier_whenTheHotTierEvicts_thenShouldServeFromOffHeap() {
+        final var tiered = new CachingCategoryGateway(delegate, 1, 1_048_576, 1_048_576, Duration.ofMinutes(10), nanos::get);
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        tiered.findById(category.getId());
+        tiered.cleanUp();
+        final var actualCategory = tiered.findById(category.getId()).get();
+
+        Assertions.assertEquals(category.getName(), actualCategory.getName());
+        Assertions.assertEquals(category.getDescription(), actualCategory.getDescription());
+        Mockito.verify(delegate, Mockito.times(1)).findById(category.getId());
+        Assertions.assertEquals(1, tiered.offHeap().get().hitCount());
+    }
+
+    @Test
+    public void givenAnOffHeapTier_whenCallsUpdate_thenShouldInvalidateBothTiers() {
+        final var tiered = new CachingCategoryGateway(delegate, 1_048_576, 1_048_576, 1_048_576, Duration.ofMinutes(10), nanos::get);
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        tiered.findById(category.getId());
+        tiered.update(category);
+        tiered.findById(category.getId());
+
+        Mockito.verify(delegate, Mockito.times(2)).findById(category.getId());
+        Assertions.assertEquals(0, tiered.offHeap().get().hitCount());
+    }
+}
@@ -0,0 +1,100 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.utils.InstantUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CategoryCacheFootprintBenchmarkTest {
+    private static final int CATEGORIES = 10_000;
+    private static final int HOT_CATEGORIES = 500;
+    private static final int READS = 200_000;
+    private static final String DESCRIPTION = "descrição ".repeat(400);
+
+    @Test
+    public void givenAFullCatalogue_whenCachingOnHeapOrTiered_thenShouldReportHeapAllocationAndGc() {
+        // ids only; every load builds a fresh aggregate, like a row read from MySQL would
+        final var catalogue = new HashMap<CategoryId, Integer>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            catalogue.put(CategoryId.unique(), i);
+        }
+        final var ids = List.copyOf(catalogue.keySet());
+        final var now = InstantUtils.now();
+        final var delegate = Mockito.mock(CategoryGateway.class);
+        Mockito.when(delegate.findById(Mockito.any())).thenAnswer(invocation -> {
+            final CategoryId id = invocation.getArgument(0);
+            return Optional.ofNullable(catalogue.get(id))
+                    .map(i -> Category.with(id, "Category " + i, DESCRIPTION + i, true, now, now, null));
+        });
+
+        final var onHeap = run("on-heap", new CachingCategoryGateway(
+                delegate, 512L << 20, 0, 1L << 20, Duration.ofHours(1)
+        ), ids);
+        final var tiered = run("tiered", new CachingCategoryGateway(
+                delegate, 4L << 20, 256L << 20, 1L << 20, Duration.ofHours(1)
+        ), ids);
+
+        Assertions.assertTrue(tiered < onHeap);
+    }
+
+    // returns the heap retained by the filled cache
+    private long run(final String label, final CachingCategoryGateway gateway, final List<CategoryId> ids) {
+        final var baseline = usedHeapAfterGc();
+        ids.forEach(gateway::findById);
+        final var retained = usedHeapAfterGc() - baseline;
+
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var thread = Thread.currentThread().getId();
+        final var allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        final var gcBefore = gcTotals();
+        final var start = System.nanoTime();
+
+        final var random = ThreadLocalRandom.current();
+        for (int i = 0; i < READS; i++) {
+            // nine in ten reads go to a small hot set, the rest anywhere in the catalogue
+            final var bound = random.nextInt(10) == 0 ? ids.size() : HOT_CATEGORIES;
+            gateway.findById(ids.get(random.nextInt(bound)));
+        }
+
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        final var gcAfter = gcTotals();
+        System.out.printf(
+                "%s: retained heap %d MB, %d B allocated per read, %d GCs (%d ms) over %d reads in %d ms%n",
+                label,
+                retained >> 20,
+                (threads.getThreadAllocatedBytes(thread) - allocatedBefore) / READS,
+                gcAfter[0] - gcBefore[0],
+                gcAfter[1] - gcBefore[1],
+                READS,
+                elapsed.toMillis()
+        );
+        return retained;
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long[] gcTotals() {
+        final var totals = new long[2];
+        for (final GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            totals[0] += Math.max(0, collector.getCollectionCount());
+            totals[1] += Math.max(0, collector.getCollectionTime());
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,144 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.application.category.retrieve.list.CategoryCatalogueVersionOutput;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+public class CategoryHttpCachingTest {
+    private static final LongSupplier UNUSED = () -> {
+        throw new AssertionError("the current version should not be read");
+    };
+
+    private final CategoryResponseCache responseCache = newResponseCache(true);
+    private final CategoryHttpCaching httpCaching = new CategoryHttpCaching(responseCache);
+
+    @Test
+    public void givenAGzipClient_whenCallsRespond_thenShouldSendTheGzipBytesWithTheGzipEtag() {
+        final var encoded = responseCache.get("key", () -> Map.of("description", "a".repeat(4_000)));
+
+        final var actualResponse = httpCaching.respond(encoded, "\"id-3\"", ResponseEntity.ok(), "deflate, gzip");
+
+        Assertions.assertSame(encoded.gzip(), actualResponse.getBody());
+        Assertions.assertEquals("\"id-3-gzip\"", actualResponse.getHeaders().getETag());
+        Assertions.assertEquals("gzip", actualResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        Assertions.assertEquals(HttpHeaders.ACCEPT_ENCODING, actualResponse.getHeaders().getFirst(HttpHeaders.VARY));
+    }
+
+    @Test
+    public void givenAClientRefusingGzip_whenCallsRespond_thenShouldSendTheJsonWithThePlainEtag() {
+        final var encoded = responseCache.get("key", () -> Map.of("description", "a".repeat(4_000)));
+
+        final var actualResponse = httpCaching.respond(encoded, "\"id-3\"", ResponseEntity.ok(), "gzip;q=0.0, identity");
+
+        Assertions.assertSame(encoded.json(), actualResponse.getBody());
+        Assertions.assertEquals("\"id-3\"", actualResponse.getHeaders().getETag());
+        Assertions.assertNull(actualResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void givenADisabledResponseCache_whenCallsRespond_thenShouldSendTheJsonWithoutVary() {
+        final var disabled = newResponseCache(false);
+        final var encoded = disabled.get("key", () -> Map.of("description", "a".repeat(4_000)));
+
+        final var actualResponse = new CategoryHttpCaching(disabled)
+                .respond(encoded, "\"id-3\"", ResponseEntity.ok(), "gzip");
+
+        Assertions.assertSame(encoded.json(), actualResponse.getBody());
+        Assertions.assertEquals("\"id-3\"", actualResponse.getHeaders().getETag());
+        Assertions.assertNull(actualResponse.getHeaders().getFirst(HttpHeaders.VARY));
+    }
+
+    @Test
+    public void givenEitherFormOfTheEtag_whenCallsNotModified_thenShouldAnswerWithTheClientsForm() {
+        final var lastModified = Instant.parse("2022-06-01T10:15:30Z");
+
+        final var plain = httpCaching.notModified(withIfNoneMatch("\"id-3\""), "\"id-3\"", lastModified);
+        final var gzipped = httpCaching.notModified(withIfNoneMatch("\"other\", W/\"id-3-gzip\""), "\"id-3\"", null);
+
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, plain.orElseThrow().getStatusCode());
+        Assertions.assertEquals("\"id-3\"", plain.get().getHeaders().getETag());
+        Assertions.assertEquals(lastModified.toEpochMilli(), plain.get().getHeaders().getLastModified());
+        Assertions.assertEquals("\"id-3-gzip\"", gzipped.orElseThrow().getHeaders().getETag());
+    }
+
+    @Test
+    public void givenAStaleEtag_whenCallsNotModified_thenShouldReturnEmpty() {
+        final var actualResult = httpCaching.notModified(withIfNoneMatch("\"id-2-gzip\""), "\"id-3\"", null);
+
+        Assertions.assertTrue(actualResult.isEmpty());
+    }
+
+    @Test
+    public void givenACatalogueVersionAndAQuery_whenCallsEtag_thenShouldChangeWithEither() {
+        final var updatedAt = Instant.parse("2022-06-01T10:15:30.123456Z");
+        final var version = new CategoryCatalogueVersionOutput(3, 5, updatedAt);
+        final var query = new CategorySearchQuery(0, 10, "movies", "name", "asc");
+
+        final var etag = CategoryHttpCaching.etag(version, query);
+
+        Assertions.assertTrue(etag.startsWith("\"list-") && etag.endsWith("\""), etag);
+        Assertions.assertEquals(etag, CategoryHttpCaching.etag(new CategoryCatalogueVersionOutput(3, 5, updatedAt), query));
+        Assertions.assertNotEquals(etag, CategoryHttpCaching.etag(new CategoryCatalogueVersionOutput(3, 6, updatedAt), query));
+        Assertions.assertNotEquals(etag, CategoryHttpCaching.etag(new CategoryCatalogueVersionOutput(2, 5, updatedAt), query));
+        Assertions.assertNotEquals(etag, CategoryHttpCaching.etag(version, new CategorySearchQuery(1, 10, "movies", "name", "asc")));
+        Assertions.assertNotEquals(
+                CategoryHttpCaching.etag(new CategoryCatalogueVersionOutput(0, 0, null), query),
+                CategoryHttpCaching.etag(new CategoryCatalogueVersionOutput(0, 0, updatedAt), query)
+        );
+    }
+
+    @Test
+    public void givenEitherFormInIfMatch_whenCallsExpectedVersion_thenShouldReturnTheVersion() {
+        final var id = CategoryId.unique().getValue();
+
+        Assertions.assertEquals(4L, httpCaching.expectedVersion(id, "\"%s-4\"".formatted(id), UNUSED));
+        Assertions.assertEquals(4L, httpCaching.expectedVersion(id, "\"%s-4-gzip\"".formatted(id), UNUSED));
+        Assertions.assertNull(httpCaching.expectedVersion(id, "*", UNUSED));
+        Assertions.assertNull(httpCaching.expectedVersion(id, null, UNUSED));
+    }
+
+    @Test
+    public void givenSeveralVersionsInIfMatch_whenCallsExpectedVersion_thenShouldPickTheCurrentOne() {
+        final var id = CategoryId.unique().getValue();
+        final var ifMatch = "\"%s-4\", \"%s-5-gzip\"".formatted(id, id);
+
+        Assertions.assertEquals(5L, httpCaching.expectedVersion(id, ifMatch, () -> 5L));
+        Assertions.assertThrows(StaleVersionException.class, () -> httpCaching.expectedVersion(id, ifMatch, () -> 6L));
+    }
+
+    @Test
+    public void givenAWeakOrForeignIfMatch_whenCallsExpectedVersion_thenShouldThrowStaleVersionException() {
+        final var id = CategoryId.unique().getValue();
+
+        for (final var ifMatch : List.of("W/\"%s-4\"".formatted(id), "\"%s-4\"".formatted(CategoryId.unique().getValue()))) {
+            Assertions.assertThrows(
+                    StaleVersionException.class,
+                    () -> httpCaching.expectedVersion(id, ifMatch, UNUSED)
+            );
+        }
+    }
+
+    private static MockHttpServletRequest withIfNoneMatch(final String ifNoneMatch) {
+        final var request = new MockHttpServletRequest("GET", "/categories");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return request;
+    }
+
+    private static CategoryResponseCache newResponseCache(final boolean enabled) {
+        return new CategoryResponseCache(enabled, DataSize.ofMegabytes(1), Duration.ofMinutes(10), DataSize.ofKilobytes(2));
+    }
+}
@@ -0,0 +1,58 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.application.category.update.DefaultUpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.update.SerializedUpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.update.UpdateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.utils.StripedLock;
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public class CategoryMetricsTest {
+
+    @Test
+    public void givenEnabledDecorators_whenBindingMetrics_thenShouldPublishTheirCounters() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var delegate = Mockito.mock(CategoryGateway.class);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        final var coalescing = new CoalescingCategoryGateway(delegate);
+        final var caching = new CachingCategoryGateway(coalescing, 1_048_576, 0, 10, Duration.ofMinutes(10));
+        final var updateCategoryUseCase = new SerializedUpdateCategoryUseCase(
+                new DefaultUpdateCategoryUseCase(caching),
+                new StripedLock(16)
+        );
+
+        final var beans = new StaticListableBeanFactory();
+        beans.addBean("coalescingCategoryGateway", coalescing);
+        beans.addBean("cachingCategoryGateway", caching);
+        beans.addBean("updateCategoryUseCase", updateCategoryUseCase);
+
+        final var registry = new SimpleMeterRegistry();
+        new CategoryMetrics(
+                beans.getBeanProvider(GroupCommitCategoryGateway.class),
+                beans.getBeanProvider(BatchingCategoryGateway.class),
+                beans.getBeanProvider(CoalescingCategoryGateway.class),
+                beans.getBeanProvider(ExistenceFilterCategoryGateway.class),
+                beans.getBeanProvider(CachingCategoryGateway.class),
+                beans.getBeanProvider(UpdateCategoryUseCase.class)
+        ).bindTo(registry);
+
+        caching.findById(category.getId());
+        caching.findById(category.getId());
+
+        Assertions.assertEquals(1, registry.get("category.cache.gets").tags("tier", "hot", "result", "hit").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("category.cache.gets").tags("tier", "hot", "result", "miss").functionCounter().count());
+        Assertions.assertEquals(0, registry.get("category.coalescing.collapsed").functionCounter().count());
+        Assertions.assertEquals(0, registry.get("category.update-lock.contended").functionCounter().count());
+        Assertions.assertNull(registry.find("category.group-commit.commits").functionCounter());
+        Assertions.assertNull(registry.find("category.existence-filter.short-circuited").functionCounter());
+    }
+}
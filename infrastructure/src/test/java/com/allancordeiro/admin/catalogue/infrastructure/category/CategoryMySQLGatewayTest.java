@@ -2,16 +2,27 @@ package com.allancordeiro.admin.catalogue.infrastructure.category;
 
 import com.allancordeiro.admin.catalogue.domain.category.Category;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryCatalogueVersion;
 import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryVersion;
 import com.allancordeiro.admin.catalogue.domain.category.CategorySearchQuery;
 import com.allancordeiro.admin.catalogue.MySQLGatewayTest;
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.NotFoundException;
+import com.allancordeiro.admin.catalogue.domain.exceptions.StaleVersionException;
+import com.allancordeiro.admin.catalogue.domain.pagination.Pagination;
 import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryJpaEntity;
 import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 
 @MySQLGatewayTest
@@ -47,10 +58,10 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(category.getDeletedAt(), actualCategory.getDeletedAt());
         Assertions.assertNull(actualCategory.getDeletedAt());
 
-        final var actualEntity = categoryRepository.findById(category.getId().getValue()).get();
+        final var actualEntity = categoryRepository.findById(category.getId().toUUID().orElseThrow()).get();
 
         Assertions.assertEquals(1, categoryRepository.count());
-        Assertions.assertEquals(category.getId().getValue(), actualEntity.getId());
+        Assertions.assertEquals(category.getId().toUUID().orElseThrow(), actualEntity.getId());
         Assertions.assertEquals(expectedName, actualEntity.getName());
         Assertions.assertEquals(expectedDescription, actualEntity.getDescription());
         Assertions.assertEquals(expectedIsActive, actualEntity.isActive());
@@ -72,10 +83,10 @@ class CategoryMySQLGatewayTest {
         categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
         Assertions.assertEquals(1, categoryRepository.count());
 
-        final var actualInvalidEntity = categoryRepository.findById(category.getId().getValue()).get();
+        final var actualInvalidEntity = categoryRepository.findById(category.getId().toUUID().orElseThrow()).get();
 
         Assertions.assertEquals(1, categoryRepository.count());
-        Assertions.assertEquals(category.getId().getValue(), actualInvalidEntity.getId());
+        Assertions.assertEquals(category.getId().toUUID().orElseThrow(), actualInvalidEntity.getId());
         Assertions.assertEquals("Film", actualInvalidEntity.getName());
         Assertions.assertNull(actualInvalidEntity.getDescription());
         Assertions.assertEquals(expectedIsActive, actualInvalidEntity.isActive());
@@ -93,10 +104,10 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(category.getDeletedAt(), actualCategory.getDeletedAt());
         Assertions.assertNull(actualCategory.getDeletedAt());
 
-        final var actualEntity = categoryRepository.findById(category.getId().getValue()).get();
+        final var actualEntity = categoryRepository.findById(category.getId().toUUID().orElseThrow()).get();
 
         Assertions.assertEquals(1, categoryRepository.count());
-        Assertions.assertEquals(category.getId().getValue(), actualEntity.getId());
+        Assertions.assertEquals(category.getId().toUUID().orElseThrow(), actualEntity.getId());
         Assertions.assertEquals(expectedName, actualEntity.getName());
         Assertions.assertEquals(expectedDescription, actualEntity.getDescription());
         Assertions.assertEquals(expectedIsActive, actualEntity.isActive());
@@ -152,6 +163,37 @@ class CategoryMySQLGatewayTest {
         Assertions.assertNull(actualCategory.getDeletedAt());
     }
 
+    @Test
+    public void givenAPrePersistedCategory_whenCallsFindVersionById_shouldReturnItsVersion() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        Assertions.assertEquals(
+                Optional.of(new CategoryVersion(0, category.getUpdatedAt())),
+                categoryGateway.findVersionById(category.getId())
+        );
+        Assertions.assertTrue(categoryGateway.findVersionById(CategoryId.unique()).isEmpty());
+        Assertions.assertTrue(categoryGateway.findVersionById(CategoryId.from("empty")).isEmpty());
+    }
+
+    @Test
+    public void givenWrites_whenCallsFindCatalogueVersion_shouldMoveWithEachOfThem() {
+        Assertions.assertEquals(new CategoryCatalogueVersion(0, 0, null), categoryGateway.findCatalogueVersion());
+
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryGateway.create(category);
+        final var created = categoryGateway.findCatalogueVersion();
+        Assertions.assertEquals(new CategoryCatalogueVersion(1, 0, category.getUpdatedAt()), created);
+
+        categoryGateway.update(category.clone().update("Series", "A segunda mais assistida", true));
+        final var updated = categoryGateway.findCatalogueVersion();
+        Assertions.assertEquals(1, updated.count());
+        Assertions.assertEquals(1, updated.versions());
+
+        categoryGateway.deleteById(category.getId());
+        Assertions.assertEquals(new CategoryCatalogueVersion(0, 0, null), categoryGateway.findCatalogueVersion());
+    }
+
     @Test
     public void givenAValidCategoryButNotStore_whenCallsFindById_shouldReturnEmpty() {
         Assertions.assertEquals(0, categoryRepository.count());
@@ -320,4 +362,516 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenPrePersistedCategories_whenFollowsCursorUntilTheEnd_thenShouldReturnEveryCategoryOnce() {
+        final var expectedPerPage = 2;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentarios", null, true);
+
+        Assertions.assertEquals(0, categoryRepository.count());
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+        Assertions.assertEquals(3, categoryRepository.count());
+
+        //first page
+        var query = new CategorySearchQuery(0, expectedPerPage, "", "name", "asc", "");
+        var actualResult = categoryGateway.findAllByCursor(query);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        //last page
+        query = new CategorySearchQuery(0, expectedPerPage, "", "name", "asc", actualResult.nextCursor());
+        actualResult = categoryGateway.findAllByCursor(query);
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenCategoriesWithSameCreatedAt_whenFollowsCursorDesc_thenShouldUseIdAsTieBreaker() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.with(
+                CategoryId.from("f0000000-0000-7000-8000-000000000000"), "Séries", null, true,
+                filmes.getCreatedAt(), filmes.getUpdatedAt(), null
+        );
+        final var documentaries = Category.with(
+                CategoryId.from("10000000-0000-7000-8000-000000000000"), "Documentarios", null, true,
+                filmes.getCreatedAt(), filmes.getUpdatedAt(), null
+        );
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var actualIds = new ArrayList<CategoryId>();
+        String cursor = "";
+        do {
+            final var query = new CategorySearchQuery(0, 1, "", "createdAt", "desc", cursor);
+            final var actualResult = categoryGateway.findAllByCursor(query);
+            actualResult.items().forEach(it -> actualIds.add(it.getId()));
+            cursor = actualResult.nextCursor();
+        } while (cursor != null);
+
+        Assertions.assertEquals(3, actualIds.size());
+        Assertions.assertEquals(3, actualIds.stream().distinct().count());
+        Assertions.assertTrue(actualIds.indexOf(series.getId()) < actualIds.indexOf(documentaries.getId()));
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndDocAsTerms_whenCallsFindAllByCursor_thenShouldReturnFiltered() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var documentaries = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var query = new CategorySearchQuery(0, 10, "doc", "name", "asc", "");
+        final var actualResult = categoryGateway.findAllByCursor(query);
+
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAllByCursor_thenShouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc", "not a cursor");
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAllByCursor(query)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenACursorWithATamperedDirection_whenCallsFindAllByCursor_thenShouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+        final var cursor = new CategoryCursor("name", "sideways", UUID.randomUUID().toString(), "Filmes").encode();
+
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc", cursor);
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAllByCursor(query)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithoutTotal_thenShouldReturnSlice() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentaries = Category.newCategory("Documentarios", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        //page 0
+        var query = new CategorySearchQuery(0, 2, "", "name", "asc", null, false);
+        var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(0, actualResult.currentPage());
+        Assertions.assertEquals(2, actualResult.perPage());
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(1).getId());
+
+        //page 1
+        query = new CategorySearchQuery(1, 2, "", "name", "asc", null, false);
+        actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(1, actualResult.currentPage());
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertEquals(1, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithTotal_thenShouldComputeHasNext() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var firstPage = categoryGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+        final var lastPage = categoryGateway.findAll(new CategorySearchQuery(1, 1, "", "name", "asc"));
+
+        Assertions.assertEquals(2, firstPage.total());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertFalse(lastPage.hasNext());
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndFullTextMode_whenCallsFindAllByRelevance_thenShouldReturnMatches() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+        final var documentaries = Category.newCategory("Documentarios", "Nenhuma", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentaries)
+        ));
+
+        final var query = new CategorySearchQuery(0, 10, "assistida", "relevance", "desc", null, true, "fulltext");
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertTrue(actualResult.items().stream().noneMatch(it -> it.getId().equals(documentaries.getId())));
+    }
+
+    @Test
+    public void givenFullTextModeAndNameSort_whenCallsFindAll_thenShouldReturnMatchesSortedByName() {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", "Uma categoria assistida", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(filmes)
+        ));
+
+        final var query = new CategorySearchQuery(0, 10, "categoria", "name", "asc", null, true, "fulltext");
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(1).getId());
+    }
+
+    @Test
+    public void givenRelevanceSortWithoutFullTextMode_whenCallsFindAll_thenShouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' relevance requires a search term with 'mode' fulltext";
+
+        final var query = new CategorySearchQuery(0, 10, "filmes", "relevance", "desc");
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(query)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnUnknownMode_whenCallsFindAll_thenShouldThrowDomainException() {
+        final var expectedErrorMessage = "'mode' soundex is not supported";
+
+        final var query = new CategorySearchQuery(0, 10, "filmes", "name", "asc", null, true, "soundex");
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> categoryGateway.findAll(query)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndPrefixMode_whenCallsFindAll_thenShouldMatchNormalizedNamePrefix() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, true);
+        final var amazon = Category.newCategory("Amazon Originals", "Documentários da amazon", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(amazon)
+        ));
+
+        final var query = new CategorySearchQuery(0, 10, "DOCUMENTÁ", "name", "asc", null, true, "prefix");
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(documentaries.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenPrefixModeWithWildcards_whenCallsFindAll_thenShouldMatchThemLiterally() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("100% Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("1000 Filmes", null, true))
+        ));
+
+        final var query = new CategorySearchQuery(0, 10, "100%", "name", "asc", null, true, "prefix");
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals("100% Filmes", actualResult.items().get(0).getName());
+    }
+
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldPersistNormalizedName() {
+        final var category = Category.newCategory("Séries Açúcar", null, true);
+
+        categoryGateway.create(category);
+
+        final var actualEntity = categoryRepository.findById(category.getId().toUUID().orElseThrow()).get();
+        Assertions.assertEquals("series acucar", actualEntity.getNormalizedName());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllSortedByActive_thenShouldOrderByActiveThenName() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var documentaries = Category.newCategory("Documentários", null, false);
+        final var series = Category.newCategory("Séries", null, true);
+        final var amazon = Category.newCategory("Amazon Originals", null, false);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(documentaries),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(amazon)
+        ));
+
+        final var query = new CategorySearchQuery(0, 10, "", "active", "asc");
+        final var actualResult = categoryGateway.findAll(query);
+
+        Assertions.assertEquals(4, actualResult.total());
+        Assertions.assertEquals(
+                List.of(amazon.getId(), documentaries.getId(), filmes.getId(), series.getId()),
+                actualResult.items().stream().map(Category::getId).toList()
+        );
+    }
+
+    @Test
+    public void givenManyValidCategories_whenCallsCreateAll_shouldPersistEveryOne() {
+        final var expectedCount = 1_201;
+        final var categories = new ArrayList<Category>(expectedCount);
+        for (int i = 0; i < expectedCount; i++) {
+            categories.add(Category.newCategory("Categoria " + i, null, i % 2 == 0));
+        }
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        final var actualCategories = categoryGateway.createAll(categories);
+
+        Assertions.assertEquals(expectedCount, actualCategories.size());
+        Assertions.assertEquals(expectedCount, categoryRepository.count());
+        Assertions.assertEquals(categories.get(0).getId(), actualCategories.get(0).getId());
+
+        final var actualEntity = categoryRepository.findById(categories.get(1200).getId().toUUID().orElseThrow()).get();
+        Assertions.assertEquals("Categoria 1200", actualEntity.getName());
+        Assertions.assertEquals("categoria 1200", actualEntity.getNormalizedName());
+    }
+
+    @Test
+    public void givenANonPersistedCategory_whenCallsUpdate_shouldThrowNotFound() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedErrorMessage = "Category with ID %s was not found".formatted(category.getId().getValue());
+
+        final var actualException =
+                Assertions.assertThrows(NotFoundException.class, () -> categoryGateway.update(category));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenAChangedCategory_whenCallsUpdate_shouldWriteOnlyTheChangedColumns() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final var described = Category.with(category).update("Filmes", "Outra descrição", true);
+        categoryGateway.update(described);
+
+        // current version, but still holding the old description
+        final var renamed = Category.with(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                1
+        ).update("Films", "A categoria mais assistida", false);
+        categoryGateway.update(renamed);
+
+        final var actualEntity = categoryRepository.findById(category.getId().toUUID().orElseThrow()).get();
+
+        Assertions.assertEquals("Films", actualEntity.getName());
+        Assertions.assertEquals("films", actualEntity.getNormalizedName());
+        Assertions.assertEquals("Outra descrição", actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertNotNull(actualEntity.getDeletedAt());
+    }
+
+    @Test
+    public void givenTwoUpdatesFromTheSameVersion_whenCallsUpdate_shouldRejectTheSecond() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final var first = Category.with(category).update("Filmes", "Outra descrição", true);
+        final var second = Category.with(category).update("Films", "A categoria mais assistida", true);
+
+        final var actualCategory = categoryGateway.update(first);
+        final var actualException = Assertions.assertThrows(
+                StaleVersionException.class,
+                () -> categoryGateway.update(second)
+        );
+
+        final var actualEntity = categoryRepository.findById(category.getId().toUUID().orElseThrow()).get();
+
+        Assertions.assertEquals(1, actualCategory.getVersion());
+        Assertions.assertEquals(1, actualEntity.getVersion());
+        Assertions.assertEquals("Filmes", actualEntity.getName());
+        Assertions.assertEquals("Outra descrição", actualEntity.getDescription());
+        Assertions.assertEquals(
+                "Category with ID %s was modified by another request".formatted(category.getId().getValue()),
+                actualException.getMessage()
+        );
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsUpdateAll_shouldUpdateThemAndLeaveOutStaleOnes() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var animes = Category.newCategory("Animes", null, true);
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(animes)
+        ));
+        categoryGateway.update(Category.with(animes).update("Animes", "Já alterada", true));
+
+        final var actualCategories = categoryGateway.updateAll(List.of(
+                Category.with(filmes).update("Filmes", "A categoria mais assistida", true),
+                Category.with(series).update("Séries", null, false),
+                Category.with(animes).update("Animes", "Desatualizada", true)
+        ));
+
+        Assertions.assertEquals(
+                List.of(filmes.getId(), series.getId()),
+                actualCategories.stream().map(Category::getId).toList()
+        );
+        actualCategories.forEach(category -> Assertions.assertEquals(1, category.getVersion()));
+
+        final var actualFilmes = categoryRepository.findById(filmes.getId().toUUID().orElseThrow()).get();
+        Assertions.assertEquals("A categoria mais assistida", actualFilmes.getDescription());
+        Assertions.assertEquals(1, actualFilmes.getVersion());
+
+        final var actualSeries = categoryRepository.findById(series.getId().toUUID().orElseThrow()).get();
+        Assertions.assertEquals("Séries", actualSeries.getName());
+        Assertions.assertEquals("series", actualSeries.getNormalizedName());
+        Assertions.assertFalse(actualSeries.isActive());
+        Assertions.assertNotNull(actualSeries.getDeletedAt());
+
+        final var actualAnimes = categoryRepository.findById(animes.getId().toUUID().orElseThrow()).get();
+        Assertions.assertEquals("Já alterada", actualAnimes.getDescription());
+        Assertions.assertEquals(1, actualAnimes.getVersion());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsDeleteAllByIds_shouldDeleteOnlyThose() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        categoryGateway.deleteAllByIds(List.of(filmes.getId(), CategoryId.from("invalid"), CategoryId.unique()));
+
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertTrue(categoryRepository.existsById(series.getId().toUUID().orElseThrow()));
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsForEach_shouldVisitEveryOneInIdOrder() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Series", "Com, vírgula", true),
+                Category.newCategory("Animes", null, false)
+        );
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var actualIds = new ArrayList<CategoryId>();
+        categoryGateway.forEach(null, category -> actualIds.add(category.getId()));
+
+        Assertions.assertEquals(
+                categories.stream().map(Category::getId).sorted(Comparator.comparing(CategoryId::getValue)).toList(),
+                actualIds
+        );
+    }
+
+    @Test
+    public void givenAnUpdatedSince_whenCallsForEach_shouldVisitOnlyTheCategoriesUpdatedFromThen() {
+        final var since = Instant.parse("2022-06-01T00:00:00Z");
+        final var old = Category.newCategory("Filmes", null, true);
+        final var recent = Category.newCategory("Series", null, true);
+        final var oldEntity = CategoryJpaEntity.from(old);
+        oldEntity.setUpdatedAt(since.minusSeconds(1));
+        final var recentEntity = CategoryJpaEntity.from(recent);
+        recentEntity.setUpdatedAt(since);
+        categoryRepository.saveAllAndFlush(List.of(oldEntity, recentEntity));
+
+        final var actualCategories = new ArrayList<Category>();
+        categoryGateway.forEach(since, actualCategories::add);
+
+        Assertions.assertEquals(1, actualCategories.size());
+        Assertions.assertEquals(recent.getId(), actualCategories.get(0).getId());
+        Assertions.assertEquals(since, actualCategories.get(0).getUpdatedAt());
+    }
+
+    @Test
+    public void givenAnInactiveCategory_whenCallsUpdateActivating_shouldClearDeletedAt() {
+        final var category = Category.newCategory("Filmes", null, false);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        categoryGateway.update(Category.with(category).activate());
+
+        final var actualEntity = categoryRepository.findById(category.getId().toUUID().orElseThrow()).get();
+
+        Assertions.assertTrue(actualEntity.isActive());
+        Assertions.assertNull(actualEntity.getDeletedAt());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllByIds_shouldReturnOnlyTheStoredOnes() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var actualResult = categoryGateway.findAllByIds(List.of(
+                filmes.getId(),
+                documentarios.getId(),
+                CategoryId.unique(),
+                CategoryId.from("invalid")
+        ));
+
+        Assertions.assertEquals(2, actualResult.size());
+        Assertions.assertTrue(actualResult.stream().anyMatch(it -> it.getId().equals(filmes.getId())));
+        Assertions.assertTrue(actualResult.stream().anyMatch(it -> it.getId().equals(documentarios.getId())));
+    }
+
+    @Test
+    public void givenNoValidIds_whenCallsFindAllByIds_shouldReturnEmpty() {
+        final var actualResult = categoryGateway.findAllByIds(List.of(CategoryId.from("invalid")));
+
+        Assertions.assertTrue(actualResult.isEmpty());
+    }
+}
@@ -0,0 +1,132 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class CoalescingCategoryGatewayTest {
+    private static final int CALLERS = 8;
+
+    private CategoryGateway delegate;
+    private CoalescingCategoryGateway gateway;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryGateway.class);
+        gateway = new CoalescingCategoryGateway(delegate);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenCallsFindByIdForTheSameId_thenShouldShareOneDelegateCall() throws Exception {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var release = new CountDownLatch(1);
+        Mockito.when(delegate.findById(category.getId())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(category);
+        });
+
+        final var futures = new ArrayList<Future<Optional<Category>>>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> gateway.findById(category.getId())));
+        }
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (final var future : futures) {
+            Assertions.assertEquals(category.getId(), future.get(5, TimeUnit.SECONDS).get().getId());
+        }
+        Assertions.assertNotSame(futures.get(0).get().get(), futures.get(1).get().get());
+        Mockito.verify(delegate, Mockito.times(1)).findById(category.getId());
+        Assertions.assertEquals(CALLERS - 1, gateway.collapsed());
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenTheSharedCallFails_thenEveryCallerShouldSeeTheException() throws Exception {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var release = new CountDownLatch(1);
+        Mockito.when(delegate.findById(category.getId())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("Gateway error");
+        });
+
+        final var futures = new ArrayList<Future<Optional<Category>>>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(() -> gateway.findById(category.getId())));
+        }
+        awaitCollapsed(CALLERS - 1);
+        release.countDown();
+
+        for (final var future : futures) {
+            final var actualException = Assertions.assertThrows(ExecutionException.class, future::get);
+            Assertions.assertEquals("Gateway error", actualException.getCause().getMessage());
+        }
+        Mockito.verify(delegate, Mockito.times(1)).findById(category.getId());
+    }
+
+    @Test
+    public void givenAReadInFlight_whenAWriteFinishesBeforeTheNextRead_thenTheNextReadShouldNotJoinIt() throws Exception {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var stale = category.clone();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        Mockito.when(delegate.findById(category.getId()))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return Optional.of(stale);
+                })
+                .thenReturn(Optional.of(category));
+        Mockito.when(delegate.update(category)).thenReturn(category);
+
+        final var first = executor.submit(() -> gateway.findById(category.getId()));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        gateway.update(category);
+
+        final var actualResult = gateway.findById(category.getId()).get();
+        release.countDown();
+
+        Assertions.assertSame(category, actualResult);
+        Assertions.assertSame(stale, first.get(5, TimeUnit.SECONDS).get());
+        Mockito.verify(delegate, Mockito.times(2)).findById(category.getId());
+        Assertions.assertEquals(0, gateway.collapsed());
+    }
+
+    @Test
+    public void givenSequentialCallers_whenCallsFindById_thenShouldNotCoalesce() {
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        gateway.findById(category.getId());
+        gateway.findById(category.getId());
+
+        Mockito.verify(delegate, Mockito.times(2)).findById(category.getId());
+        Assertions.assertEquals(0, gateway.collapsed());
+    }
+
+    private void awaitCollapsed(final long expected) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gateway.collapsed() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import com.allancordeiro.admin.catalogue.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class ExistenceFilterCategoryGatewayTest {
+    private CategoryGateway delegate;
+    private CategoryRepository repository;
+    private ExistenceFilterCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryGateway.class);
+        repository = Mockito.mock(CategoryRepository.class);
+        gateway = new ExistenceFilterCategoryGateway(delegate, repository, 0.01, Duration.ZERO);
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsFindByIdAndDeleteById_thenShouldNotHitTheDelegate() {
+        final var stored = Category.newCategory("Filmes", null, true);
+        rebuildWith(stored);
+        final var unknown = olderId();
+
+        Assertions.assertTrue(gateway.findById(unknown).isEmpty());
+        gateway.deleteById(unknown);
+
+        Mockito.verify(delegate, Mockito.never()).findById(Mockito.any());
+        Mockito.verify(delegate, Mockito.never()).deleteById(Mockito.any());
+        Assertions.assertEquals(2, gateway.shortCircuited());
+        Assertions.assertEquals(0, gateway.falsePositiveRate());
+    }
+
+    @Test
+    public void givenAStoredId_whenCallsFindById_thenShouldHitTheDelegate() {
+        final var stored = Category.newCategory("Filmes", null, true);
+        rebuildWith(stored);
+        Mockito.when(delegate.findById(stored.getId())).thenReturn(Optional.of(stored));
+
+        Assertions.assertTrue(gateway.findById(stored.getId()).isPresent());
+        Assertions.assertEquals(0, gateway.shortCircuited());
+    }
+
+    @Test
+    public void givenACategoryCreatedAfterTheRebuild_whenCallsFindById_thenShouldHitTheDelegate() {
+        rebuildWith();
+        final var created = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.create(created)).thenReturn(created);
+        Mockito.when(delegate.findById(created.getId())).thenReturn(Optional.of(created));
+
+        gateway.create(created);
+
+        Assertions.assertTrue(gateway.findById(created.getId()).isPresent());
+        Mockito.verify(delegate, Mockito.times(1)).findById(created.getId());
+    }
+
+    @Test
+    public void givenACategoryStoredBehindTheGatewaysBack_whenCallsFindById_thenShouldStillFindIt() {
+        rebuildWith();
+        // written by another instance after the scan, so never added to this filter
+        final var stored = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findById(stored.getId())).thenReturn(Optional.of(stored));
+
+        Assertions.assertTrue(gateway.findById(stored.getId()).isPresent());
+        gateway.deleteById(stored.getId());
+
+        Mockito.verify(delegate, Mockito.times(1)).deleteById(stored.getId());
+        Assertions.assertEquals(0, gateway.shortCircuited());
+    }
+
+    @Test
+    public void givenAnIdWithinTheClockSkewOfTheScan_whenCallsFindById_thenShouldHitTheDelegate() {
+        rebuildWith();
+        final var id = idAt(System.currentTimeMillis() - ExistenceFilterCategoryGateway.CLOCK_SKEW.toMillis() / 2);
+        Mockito.when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(gateway.findById(id).isEmpty());
+
+        Mockito.verify(delegate, Mockito.times(1)).findById(id);
+    }
+
+    @Test
+    public void givenANonVersion7Id_whenCallsFindByIdAndDeleteById_thenShouldNotHitTheDelegate() {
+        rebuildWith();
+        final var id = CategoryId.from(UUID.randomUUID());
+
+        Assertions.assertTrue(gateway.findById(id).isEmpty());
+        gateway.deleteById(id);
+
+        Mockito.verifyNoInteractions(delegate);
+        Assertions.assertEquals(2, gateway.shortCircuited());
+    }
+
+    @Test
+    public void givenAFalsePositive_whenCallsDeleteById_thenShouldCountItWithoutDeleting() {
+        // an id the scan saw and that was deleted behind the gateway's back stays in the filter
+        final var deleted = olderId();
+        Mockito.when(repository.findIdsAfter(Mockito.any(), Mockito.any()))
+                .thenReturn(List.of(deleted.toUUID().orElseThrow()));
+        gateway.rebuild();
+        Mockito.when(delegate.findVersionById(deleted)).thenReturn(Optional.empty());
+
+        gateway.deleteById(deleted);
+
+        Mockito.verify(delegate, Mockito.never()).deleteById(Mockito.any());
+        Assertions.assertEquals(1, gateway.falsePositiveRate());
+    }
+
+    @Test
+    public void givenACategoryCreatedDuringTheRebuild_whenCallsFindById_thenShouldHitTheDelegate() {
+        final var created = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.create(created)).thenReturn(created);
+        Mockito.when(delegate.findById(created.getId())).thenReturn(Optional.of(created));
+        Mockito.when(repository.findIdsAfter(Mockito.any(), Mockito.any())).thenAnswer(invocation -> {
+            gateway.create(created);
+            return List.of();
+        });
+
+        gateway.rebuild();
+
+        Assertions.assertTrue(gateway.findById(created.getId()).isPresent());
+    }
+
+    @Test
+    public void givenNoRebuildYet_whenCallsFindById_thenShouldPassThrough() {
+        final var id = CategoryId.unique();
+        Mockito.when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(gateway.findById(id).isEmpty());
+
+        Mockito.verify(delegate, Mockito.times(1)).findById(id);
+        Assertions.assertEquals(0, gateway.shortCircuited());
+    }
+
+    @Test
+    public void givenUnknownAndStoredIds_whenCallsFindAllByIds_thenShouldOnlyQueryTheCandidates() {
+        final var stored = Category.newCategory("Filmes", null, true);
+        rebuildWith(stored);
+        Mockito.when(delegate.findAllByIds(List.of(stored.getId()))).thenReturn(List.of(stored));
+
+        final var actualResult = gateway.findAllByIds(List.of(olderId(), stored.getId()));
+
+        Assertions.assertEquals(List.of(stored), actualResult);
+    }
+
+    @Test
+    public void givenARebuild_whenReadingMetrics_thenShouldReportThem() {
+        final var stored = Category.newCategory("Filmes", null, true);
+        rebuildWith(stored);
+
+        Assertions.assertFalse(gateway.lastRebuildDuration().isNegative());
+        Assertions.assertTrue(gateway.expectedFalsePositiveRate() > 0);
+        Assertions.assertTrue(gateway.expectedFalsePositiveRate() < 0.01);
+    }
+
+    // a UUIDv7 minted well before the filter scan started
+    private static CategoryId olderId() {
+        return idAt(System.currentTimeMillis() - Duration.ofHours(1).toMillis());
+    }
+
+    private static CategoryId idAt(final long millis) {
+        final var id = CategoryId.unique().toUUID().orElseThrow();
+        return CategoryId.from(new UUID(
+                (millis << 16) | (id.getMostSignificantBits() & 0xFFFF),
+                id.getLeastSignificantBits()
+        ));
+    }
+
+    private void rebuildWith(final Category... categories) {
+        Mockito.when(repository.count()).thenReturn((long) categories.length);
+        Mockito.when(repository.findIdsAfter(Mockito.any(), Mockito.any())).thenReturn(
+                List.of(categories).stream().map(it -> it.getId().toUUID().orElseThrow()).toList()
+        );
+        gateway.rebuild();
+    }
+}
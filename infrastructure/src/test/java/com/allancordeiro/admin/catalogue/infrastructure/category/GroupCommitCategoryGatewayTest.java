@@ -0,0 +1,130 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryGateway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+public class GroupCommitCategoryGatewayTest {
+    private static final int CALLERS = 8;
+
+    private CategoryGateway delegate;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryGateway.class);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenConcurrentCallersFillingAGroup_whenCallsCreate_thenShouldInsertThemInOneTransaction() throws Exception {
+        final var gateway = new GroupCommitCategoryGateway(delegate, Duration.ofSeconds(5), CALLERS);
+        Mockito.when(delegate.createAll(ArgumentMatchers.any())).thenAnswer(returnsFirstArg());
+
+        final var categories = new ArrayList<Category>();
+        final var futures = new ArrayList<Future<Category>>();
+        for (int i = 0; i < CALLERS; i++) {
+            final var category = Category.newCategory("Category " + i, null, true);
+            categories.add(category);
+            futures.add(executor.submit(() -> gateway.create(category)));
+        }
+
+        for (int i = 0; i < CALLERS; i++) {
+            Assertions.assertSame(categories.get(i), futures.get(i).get(1, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1, gateway.commits());
+        Mockito.verify(delegate, Mockito.times(1)).createAll(ArgumentMatchers.argThat(group -> group.size() == CALLERS));
+        Mockito.verify(delegate, Mockito.never()).create(ArgumentMatchers.any());
+    }
+
+    @Test
+    public void givenMoreCallersThanAGroupHolds_whenCallsCreate_thenNoGroupShouldExceedTheMaximumSize() throws Exception {
+        final var maxGroupSize = 2;
+        final var gateway = new GroupCommitCategoryGateway(delegate, Duration.ofSeconds(5), maxGroupSize);
+        final var groupSizes = new ConcurrentLinkedQueue<Integer>();
+        Mockito.when(delegate.createAll(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            final List<Category> group = invocation.getArgument(0);
+            groupSizes.add(group.size());
+            return group;
+        });
+
+        final var futures = new ArrayList<Future<Category>>();
+        for (int i = 0; i < CALLERS; i++) {
+            final var category = Category.newCategory("Category " + i, null, true);
+            futures.add(executor.submit(() -> gateway.create(category)));
+        }
+
+        for (final var future : futures) {
+            Assertions.assertNotNull(future.get(1, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(List.of(2, 2, 2, 2), List.copyOf(groupSizes));
+        Assertions.assertEquals(CALLERS / maxGroupSize, gateway.commits());
+    }
+
+    @Test
+    public void givenASingleCaller_whenTheWindowElapses_thenShouldInsertItAlone() {
+        final var gateway = new GroupCommitCategoryGateway(delegate, Duration.ofMillis(1), CALLERS);
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.createAll(List.of(category))).thenReturn(List.of(category));
+
+        Assertions.assertSame(category, gateway.create(category));
+        Assertions.assertEquals(1, gateway.commits());
+        Assertions.assertEquals(0, gateway.fallbacks());
+    }
+
+    @Test
+    public void givenOneFailingRowInAGroup_whenCallsCreate_thenOnlyItsCallerShouldFail() throws Exception {
+        final var gateway = new GroupCommitCategoryGateway(delegate, Duration.ofSeconds(5), 2);
+        final var valid = Category.newCategory("Filmes", null, true);
+        final var invalid = Category.newCategory("Séries", null, true);
+        Mockito.when(delegate.createAll(ArgumentMatchers.any())).thenThrow(new IllegalStateException("Duplicate entry"));
+        Mockito.when(delegate.create(valid)).thenReturn(valid);
+        Mockito.when(delegate.create(invalid)).thenThrow(new IllegalStateException("Duplicate entry"));
+
+        final var validFuture = executor.submit(() -> gateway.create(valid));
+        final var invalidFuture = executor.submit(() -> gateway.create(invalid));
+
+        Assertions.assertSame(valid, validFuture.get(1, TimeUnit.SECONDS));
+        final var actualException = Assertions.assertThrows(
+                ExecutionException.class,
+                () -> invalidFuture.get(1, TimeUnit.SECONDS)
+        );
+        Assertions.assertEquals("Duplicate entry", actualException.getCause().getMessage());
+        Assertions.assertEquals(1, gateway.fallbacks());
+    }
+
+    @Test
+    public void givenAFailingSingleRowGroup_whenCallsCreate_thenShouldNotRetryIt() {
+        final var gateway = new GroupCommitCategoryGateway(delegate, Duration.ofMillis(1), CALLERS);
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.createAll(ArgumentMatchers.any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> gateway.create(category));
+
+        Assertions.assertEquals("Gateway error", actualException.getMessage());
+        Assertions.assertEquals(0, gateway.fallbacks());
+        Mockito.verify(delegate, Mockito.never()).create(ArgumentMatchers.any());
+    }
+}
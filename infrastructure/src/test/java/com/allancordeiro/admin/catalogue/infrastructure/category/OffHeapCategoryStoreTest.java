@@ -0,0 +1,102 @@
+package com.allancordeiro.admin.catalogue.infrastructure.category;
+
+import com.allancordeiro.admin.catalogue.domain.category.Category;
+import com.allancordeiro.admin.catalogue.domain.category.CategoryId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+public class OffHeapCategoryStoreTest {
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    public void givenAStoredCategory_whenCallsGet_thenShouldDecodeEveryField() {
+        final var store = new OffHeapCategoryStore(4_096, Duration.ofMinutes(10), nanos::get);
+        final var created = Category.newCategory("Séries", "Ação e ficção 🎬", false);
+        final var category = Category.with(
+                created.getId(),
+                created.getName(),
+                created.getDescription(),
+                created.isActive(),
+                created.getCreatedAt(),
+                created.getUpdatedAt(),
+                created.getDeletedAt(),
+                7
+        );
+
+        store.put(category);
+        final var actualCategory = store.get(category.getId()).get();
+
+        Assertions.assertEquals(category.getId(), actualCategory.getId());
+        Assertions.assertEquals(category.getName(), actualCategory.getName());
+        Assertions.assertEquals(category.getDescription(), actualCategory.getDescription());
+        Assertions.assertEquals(category.isActive(), actualCategory.isActive());
+        Assertions.assertEquals(category.getCreatedAt(), actualCategory.getCreatedAt());
+        Assertions.assertEquals(category.getUpdatedAt(), actualCategory.getUpdatedAt());
+        Assertions.assertEquals(category.getDeletedAt(), actualCategory.getDeletedAt());
+        Assertions.assertNotNull(actualCategory.getDeletedAt());
+        Assertions.assertEquals(7, actualCategory.getVersion());
+    }
+
+    @Test
+    public void givenACategoryWithoutDescription_whenCallsGet_thenShouldKeepItNull() {
+        final var store = new OffHeapCategoryStore(4_096, Duration.ofMinutes(10), nanos::get);
+        final var category = Category.newCategory("Filmes", null, true);
+
+        store.put(category);
+        final var actualCategory = store.get(category.getId()).get();
+
+        Assertions.assertNull(actualCategory.getDescription());
+        Assertions.assertNull(actualCategory.getDeletedAt());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    public void givenAFullStore_whenCallsPut_thenShouldEvictTheOldestEntries() {
+        final var entryBytes = OffHeapCategoryStore.encode(Category.newCategory("Category 0", null, true)).length;
+        final var store = new OffHeapCategoryStore(entryBytes * 3L, Duration.ofMinutes(10), nanos::get);
+        final var categories = IntStream.range(0, 5)
+                .mapToObj(i -> Category.newCategory("Category " + i, null, true))
+                .toList();
+
+        categories.forEach(store::put);
+
+        Assertions.assertTrue(store.get(categories.get(0).getId()).isEmpty());
+        Assertions.assertTrue(store.get(categories.get(1).getId()).isEmpty());
+        Assertions.assertTrue(store.get(categories.get(2).getId()).isPresent());
+        Assertions.assertTrue(store.get(categories.get(3).getId()).isPresent());
+        Assertions.assertTrue(store.get(categories.get(4).getId()).isPresent());
+        Assertions.assertEquals(3, store.size());
+        Assertions.assertEquals(2, store.evictionCount());
+    }
+
+    @Test
+    public void givenAnEntryLargerThanTheStore_whenCallsPut_thenShouldSkipIt() {
+        final var store = new OffHeapCategoryStore(64, Duration.ofMinutes(10), nanos::get);
+        final var category = Category.newCategory("Filmes", "a".repeat(4_000), true);
+
+        store.put(category);
+
+        Assertions.assertTrue(store.get(category.getId()).isEmpty());
+    }
+
+    @Test
+    public void givenAStoredCategory_whenExpiresOrIsInvalidated_thenShouldMiss() {
+        final var store = new OffHeapCategoryStore(4_096, Duration.ofMinutes(10), nanos::get);
+        final var expired = Category.newCategory("Filmes", null, true);
+        final var invalidated = Category.newCategory("Séries", null, true);
+
+        store.put(expired);
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+        store.put(invalidated);
+        store.invalidate(invalidated.getId());
+
+        Assertions.assertTrue(store.get(expired.getId()).isEmpty());
+        Assertions.assertTrue(store.get(invalidated.getId()).isEmpty());
+        Assertions.assertTrue(store.get(CategoryId.unique()).isEmpty());
+        Assertions.assertEquals(3, store.missCount());
+    }
+}
@@ -7,6 +7,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @MySQLGatewayTest
 public class CategoryRepositoryTest {
@@ -66,4 +71,22 @@ public class CategoryRepositoryTest {
         Assertions.assertEquals(expectedErrorMessage, actualCause.getMessage());
 
     }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindIdsAfter_shouldPageThroughIdsInOrder() {
+        final var categories = IntStream.range(0, 5)
+                .mapToObj(i -> CategoryJpaEntity.from(Category.newCategory("Category " + i, null, true)))
+                .toList();
+        categoryRepository.saveAllAndFlush(categories);
+
+        final var firstPage = categoryRepository.findIdsAfter(new UUID(0, 0), PageRequest.of(0, 3));
+        final var secondPage = categoryRepository.findIdsAfter(firstPage.get(2), PageRequest.of(0, 3));
+
+        Assertions.assertEquals(3, firstPage.size());
+        Assertions.assertEquals(2, secondPage.size());
+        Assertions.assertEquals(
+                categories.stream().map(CategoryJpaEntity::getId).sorted().toList(),
+                Stream.concat(firstPage.stream(), secondPage.stream()).toList()
+        );
+    }
 }
@@ -0,0 +1,54 @@
+package com.allancordeiro.admin.catalogue.infrastructure.configuration;
+
+import com.allancordeiro.admin.catalogue.IntegrationTest;
+import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoryCommand;
+import com.allancordeiro.admin.catalogue.application.category.create.CreateCategoryUseCase;
+import com.allancordeiro.admin.catalogue.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.allancordeiro.admin.catalogue.infrastructure.category.CachingCategoryGateway;
+import com.allancordeiro.admin.catalogue.infrastructure.category.ExistenceFilterCategoryGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "category.group-commit.enabled=true",
+        "category.batching.enabled=true",
+        "category.coalescing.enabled=true",
+        "category.existence-filter.enabled=true",
+        "category.existence-filter.rebuild-interval=0s",
+        "category.cache.enabled=true",
+        "category.response-cache.enabled=true",
+        "category.update-lock.enabled=true"
+})
+public class CategoryGatewayConfigIT {
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+    @Autowired
+    private CachingCategoryGateway cachingCategoryGateway;
+    @Autowired
+    private ExistenceFilterCategoryGateway existenceFilterCategoryGateway;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void givenEveryDecoratorEnabled_whenCreatingAndReadingACategory_thenShouldGoThroughTheChainAndPublishMetrics() {
+        existenceFilterCategoryGateway.rebuild();
+        final var created = createCategoryUseCase.execute(CreateCategoryCommand.with("Filmes", null, true)).get();
+
+        final var actualOutput = getCategoryByIdUseCase.execute(created.id());
+
+        Assertions.assertEquals("Filmes", actualOutput.name());
+        Assertions.assertEquals(1, cachingCategoryGateway.stats().missCount());
+        Assertions.assertEquals(1, meterRegistry.get("category.cache.gets").tags("tier", "hot", "result", "miss").functionCounter().count());
+        Assertions.assertNotNull(meterRegistry.find("category.group-commit.commits").functionCounter());
+        Assertions.assertNotNull(meterRegistry.find("category.batching.batches").functionCounter());
+        Assertions.assertNotNull(meterRegistry.find("category.coalescing.collapsed").functionCounter());
+        Assertions.assertNotNull(meterRegistry.find("category.existence-filter.false-positive-rate").gauge());
+        Assertions.assertNotNull(meterRegistry.find("category.update-lock.contended").functionCounter());
+    }
+}
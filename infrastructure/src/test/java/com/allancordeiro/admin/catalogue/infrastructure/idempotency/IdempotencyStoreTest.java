@@ -0,0 +1,172 @@
+package com.allancordeiro.admin.catalogue.infrastructure.idempotency;
+
+import com.allancordeiro.admin.catalogue.MySQLGatewayTest;
+import com.allancordeiro.admin.catalogue.domain.exceptions.DomainException;
+import com.allancordeiro.admin.catalogue.domain.utils.InstantUtils;
+import com.allancordeiro.admin.catalogue.domain.validation.Error;
+import com.allancordeiro.admin.catalogue.domain.validation.handler.Notification;
+import com.allancordeiro.admin.catalogue.infrastructure.idempotency.persistence.IdempotencyKeyRepository;
+import io.vavr.API;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// each repository call commits on its own, as it does behind the controller
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyStoreTest {
+    private static final String SCOPE = "categories:create";
+
+    @Autowired
+    private IdempotencyKeyRepository repository;
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = newStore(Duration.ofHours(24));
+    }
+
+    @Test
+    public void givenACompletedKey_whenCallsExecuteAgain_shouldReplayTheResultWithoutRunningTheAction() {
+        final var calls = new AtomicInteger();
+
+        final var first = store.execute(SCOPE, "key-1", "fp", () -> API.Right("id-" + calls.incrementAndGet()));
+        final var second = store.execute(SCOPE, "key-1", "fp", () -> API.Right("id-" + calls.incrementAndGet()));
+
+        Assertions.assertEquals("id-1", first.get());
+        Assertions.assertEquals("id-1", second.get());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void givenACompletedKey_whenAnotherInstanceCallsExecute_shouldReplayTheStoredResult() {
+        store.execute(SCOPE, "key-1", "fp", () -> API.Right("id-1"));
+
+        final var actual = newStore(Duration.ofHours(24))
+                .execute(SCOPE, "key-1", "fp", () -> Assertions.fail("action should not run"));
+
+        Assertions.assertEquals("id-1", actual.get());
+        Assertions.assertEquals("id-1", repository.findById(SCOPE + ":key-1").orElseThrow().getResult());
+    }
+
+    @Test
+    public void givenAKeyUsedForAnotherRequest_whenCallsExecute_shouldThrowDomainException() {
+        final var expectedMessage = "Idempotency-Key key-1 was already used for a different request";
+        store.execute(SCOPE, "key-1", "fp", () -> API.Right("id-1"));
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> store.execute(SCOPE, "key-1", "other", () -> API.Right("id-2"))
+        );
+
+        Assertions.assertEquals(expectedMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAnActionReturningErrors_whenCallsExecuteAgain_shouldRunTheActionAgain() {
+        final var calls = new AtomicInteger();
+
+        final var first = store.execute(SCOPE, "key-1", "fp", () -> {
+            calls.incrementAndGet();
+            return API.Left(Notification.create(new Error("'name' should not be null")));
+        });
+        final var second = store.execute(SCOPE, "key-1", "fp", () -> API.Right("id-" + calls.incrementAndGet()));
+
+        Assertions.assertTrue(first.isLeft());
+        Assertions.assertEquals("id-2", second.get());
+    }
+
+    @Test
+    public void givenAnActionThrowing_whenCallsExecuteAgain_shouldRunTheActionAgain() {
+        Assertions.assertThrows(IllegalStateException.class, () -> store.execute(SCOPE, "key-1", "fp", () -> {
+            throw new IllegalStateException("Gateway error");
+        }));
+
+        final var actual = store.execute(SCOPE, "key-1", "fp", () -> API.Right("id-1"));
+
+        Assertions.assertEquals("id-1", actual.get());
+    }
+
+    @Test
+    public void givenAKeyStillRunning_whenCallsExecute_shouldThrowInProgressException() {
+        repository.reserve(SCOPE + ":key-1", "fp", InstantUtils.now());
+
+        Assertions.assertThrows(
+                IdempotencyKeyInProgressException.class,
+                () -> store.execute(SCOPE, "key-1", "fp", () -> API.Right("id-1"))
+        );
+    }
+
+    @Test
+    public void givenAnExpiredKey_whenCallsExecute_shouldRunTheActionAgain() {
+        final var reservedAt = InstantUtils.now().minus(Duration.ofHours(25));
+        repository.reserve(SCOPE + ":key-1", "fp", reservedAt);
+        repository.complete(SCOPE + ":key-1", reservedAt, "id-1");
+
+        final var actual = store.execute(SCOPE, "key-1", "other", () -> API.Right("id-2"));
+
+        Assertions.assertEquals("id-2", actual.get());
+    }
+
+    @Test
+    public void givenAKeyAbandonedPastTheLease_whenCallsExecute_shouldTakeItOverAndRunTheAction() {
+        repository.reserve(SCOPE + ":key-1", "fp", InstantUtils.now().minus(Duration.ofMinutes(2)));
+
+        final var actual = store.execute(SCOPE, "key-1", "fp", () -> API.Right("id-1"));
+
+        Assertions.assertEquals("id-1", actual.get());
+        Assertions.assertEquals("id-1", repository.findById(SCOPE + ":key-1").orElseThrow().getResult());
+    }
+
+    @Test
+    public void givenALeaseTakenOverWhileRunning_whenTheActionFinishes_shouldNotOverwriteTheNewReservation() {
+        final var id = SCOPE + ":key-1";
+        final var takenOverAt = InstantUtils.now().plus(Duration.ofSeconds(1));
+
+        final var actual = store.execute(SCOPE, "key-1", "fp", () -> {
+            // another retry found this reservation past its lease and replaced it
+            repository.release(id, repository.findById(id).orElseThrow().getCreatedAt());
+            repository.reserve(id, "fp", takenOverAt);
+            return API.Right("id-1");
+        });
+
+        Assertions.assertEquals("id-1", actual.get());
+        Assertions.assertNull(repository.findById(id).orElseThrow().getResult());
+        Assertions.assertThrows(
+                IdempotencyKeyInProgressException.class,
+                () -> store.execute(SCOPE, "key-1", "fp", () -> API.Right("id-2"))
+        );
+    }
+
+    @Test
+    public void givenExpiredKeys_whenCallsPurge_shouldDeleteOnlyThoseKeys() {
+        repository.reserve(SCOPE + ":old", "fp", InstantUtils.now().minus(Duration.ofHours(25)));
+        store.execute(SCOPE, "new", "fp", () -> API.Right("id-1"));
+
+        Assertions.assertEquals(1, store.purge());
+        Assertions.assertEquals(1, repository.count());
+        Assertions.assertTrue(repository.existsById(SCOPE + ":new"));
+    }
+
+    @Test
+    public void givenATooLongKey_whenCallsExecute_shouldThrowDomainException() {
+        final var key = "k".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1);
+
+        Assertions.assertThrows(
+                DomainException.class,
+                () -> store.execute(SCOPE, key, "fp", () -> API.Right("id-1"))
+        );
+        Assertions.assertEquals(0, repository.count());
+    }
+
+    private IdempotencyStore newStore(final Duration ttl) {
+        return new IdempotencyStore(repository, ttl, Duration.ofMinutes(1), 1000, Duration.ZERO);
+    }
+}